@@ -0,0 +1,58 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 관리자 API 한 건당 요청 스레드가 감사 로그에 쓰는 시간
+// serializeOnRequestThread : 기존 LoggingAspect 처럼 요청 스레드에서 본문 문자열과 응답 JSON 을 만든다 (로그 출력 비용 제외)
+// publish : 응답을 JSON 트리로 복사해 AuditEvent 를 만들고 링 버퍼에 넣는다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuditLoggerBenchmark {
+
+    private static final byte[] REQUEST_BODY = "{\"role\":\"ADMIN\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserCacheStatsResponse response = new UserCacheStatsResponse(1000, 10000, 9000, 1000, 10, 280_000);
+    private AuditLogger auditLogger;
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-benchmark");
+        auditLogger = new AuditLogger(objectMapper);
+        ReflectionTestUtils.setField(auditLogger, "directory", directory.toString());
+        auditLogger.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        auditLogger.stop();
+        System.out.println("written=" + auditLogger.getWritten() + ", dropped=" + auditLogger.getDropped());
+    }
+
+    @Benchmark
+    public int serializeOnRequestThread() throws IOException {
+        String requestBody = new String(REQUEST_BODY, StandardCharsets.UTF_8);
+        String responseBody = objectMapper.writeValueAsString(response);
+        return requestBody.length() + responseBody.length();
+    }
+
+    @Benchmark
+    public void publish() {
+        auditLogger.publish(new AuditEvent(System.currentTimeMillis(), 1L, "ADMIN", "PATCH", "/admin/users/1",
+                REQUEST_BODY, false, auditLogger.snapshot(response), null, 1000));
+    }
+}
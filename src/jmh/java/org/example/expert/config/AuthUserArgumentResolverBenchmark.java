@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// @Auth AuthUser 파라미터를 만드는 비용 (JwtFilter 가 남긴 요청 속성 -> AuthUser)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        resolver = new AuthUserArgumentResolver();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "a@a.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
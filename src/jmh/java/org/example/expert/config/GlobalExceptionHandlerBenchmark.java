@@ -0,0 +1,76 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 서비스 계층에서 예외를 던지고 에러 응답 본문을 만들기까지의 비용 (MVC 디스패치 제외)
+// legacy : 스택 트레이스를 채우는 예외 + 매번 HashMap 을 만들어 직렬화
+// stackless : 현재 InvalidRequestException + 미리 직렬화한 응답 재사용
+// 스택 깊이는 실제 요청(필터, 프록시, 컨트롤러, 서비스)과 비슷하게 맞춘다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GlobalExceptionHandlerBenchmark {
+
+    @Param({"100"})
+    private int stackDepth;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @Setup
+    public void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (LegacyInvalidRequestException ex) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", HttpStatus.BAD_REQUEST.name());
+            errorResponse.put("code", HttpStatus.BAD_REQUEST.value());
+            errorResponse.put("message", ex.getMessage());
+            return objectMapper.writeValueAsBytes(new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST).getBody());
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> stackless() {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (InvalidRequestException ex) {
+            return globalExceptionHandler.invalidRequestExceptionException(ex);
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy) {
+        if (depth > 0) {
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyInvalidRequestException("Todo not found");
+        }
+        throw new InvalidRequestException("Todo not found");
+    }
+
+    // 변경 전 예외 (RuntimeException 을 그대로 상속)
+    static class LegacyInvalidRequestException extends RuntimeException {
+        LegacyInvalidRequestException(String message) {
+            super(message);
+        }
+    }
+}
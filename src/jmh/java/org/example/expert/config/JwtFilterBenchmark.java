@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 잘못된 토큰을 거절하는 처리량 (토큰 살포 공격 상황), accept 는 정상 토큰이 통과하는 기준값
+// maxPerInterval=10 : 샘플링된 로그 / 2147483647 : 거절할 때마다 로그 (변경 전과 같은 로그 양, 스택 트레이스 제외)
+// 로그가 콘솔로 나가므로 -rf json 등으로 결과를 따로 받는 것을 권장한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"10", "2147483647"})
+    private int maxPerInterval;
+
+    private JwtFilter jwtFilter;
+    private String malformedToken;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+
+        JwtRejectionStats jwtRejectionStats = new JwtRejectionStats();
+        ReflectionTestUtils.setField(jwtRejectionStats, "maxPerInterval", maxPerInterval);
+        jwtFilter = new JwtFilter(jwtUtil, jwtRejectionStats, "");
+
+        malformedToken = "Bearer not.a.jwt";
+        validToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public int accept() throws Exception {
+        return filter(validToken);
+    }
+
+    @Benchmark
+    public int rejectMalformed() throws Exception {
+        return filter(malformedToken);
+    }
+
+    @Benchmark
+    public int rejectInvalidSignature() throws Exception {
+        return filter(tamperedToken);
+    }
+
+    private int filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+}
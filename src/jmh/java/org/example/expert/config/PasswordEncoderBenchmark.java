@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// cost 별 코어 1개당 초당 해시 수 (Threads(1) 이므로 score 가 곧 hashes/sec/core)
+// 인증 서버 용량 산정 : 필요한 코어 수 = 초당 로그인 요청 수 / matches score
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "fixedCost", cost);
+        passwordEncoder.init();
+        encodedPassword = passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1234", encodedPassword);
+    }
+}
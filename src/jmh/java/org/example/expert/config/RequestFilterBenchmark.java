@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// GET /todos 목록 응답을 쓰는 요청에서 RequestFilter 가 추가하는 비용
+// wrapAll : 기존 방식 (모든 요청/응답을 감싸고 copyBodyToResponse 로 한 번 더 복사)
+// selective : /admin/ 이외의 경로는 감싸지 않음
+// 힙 사용량은 -prof gc 의 gc.alloc.rate.norm (B/op) 으로 비교한다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestFilterBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int responseBytes;
+
+    private OncePerRequestFilter wrapAllFilter;
+    private RequestFilter selectiveFilter;
+    private FilterChain writeBodyChain;
+
+    @Setup
+    public void setUp() {
+        wrapAllFilter = new WrapAllRequestFilter();
+        selectiveFilter = new RequestFilter();
+
+        byte[] body = new byte[responseBytes];
+        Arrays.fill(body, (byte) 'a');
+        writeBodyChain = (request, response) -> response.getOutputStream().write(body);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse wrapAll() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        wrapAllFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, writeBodyChain);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse selective() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        selectiveFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, writeBodyChain);
+        return response;
+    }
+
+    // 변경 전 RequestFilter
+    static class WrapAllRequestFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+            ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+            try {
+                filterChain.doFilter(requestWrapper, responseWrapper);
+            } finally {
+                responseWrapper.copyBodyToResponse();
+            }
+        }
+    }
+}
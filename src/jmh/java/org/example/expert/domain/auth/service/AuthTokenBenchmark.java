@@ -0,0 +1,59 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 액세스 토큰 재발급 경로의 CPU 비용 비교 (DB 조회는 양쪽 모두 인덱스 조회 1~2번이라 제외)
+// signin : bcrypt 검증 + JWT 서명 + 리프레시 토큰 발급
+// refresh : 리프레시 토큰 HMAC + JWT 서명 + 새 리프레시 토큰 발급
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class AuthTokenBenchmark {
+
+    @Param({"10"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private JwtUtil jwtUtil;
+    private String encodedPassword;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "fixedCost", cost);
+        passwordEncoder.init();
+        encodedPassword = passwordEncoder.encode("Password1234");
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+        refreshToken = jwtUtil.createRefreshToken();
+    }
+
+    @Benchmark
+    public String signin() {
+        if (!passwordEncoder.matches("Password1234", encodedPassword)) {
+            throw new IllegalStateException();
+        }
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        return bearerToken + jwtUtil.hashRefreshToken(jwtUtil.createRefreshToken());
+    }
+
+    @Benchmark
+    public String refresh() {
+        jwtUtil.hashRefreshToken(refreshToken);
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        return bearerToken + jwtUtil.hashRefreshToken(jwtUtil.createRefreshToken());
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.common;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.StubRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 조회 API 의 엔티티 -> 응답 DTO 변환 비용 (repository 는 고정된 결과를 돌려준다)
+// 쿼리 시간을 빼고 서비스 계층이 요청마다 더하는 CPU 와 할당을 본다 (-prof gc 의 gc.alloc.rate.norm)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private TodoService todoService;
+    private CommentService commentService;
+    private ManagerService managerService;
+
+    @Setup
+    public void setUp() {
+        User writer = user(1L);
+        Todo todo = todo(1L, writer);
+
+        List<Todo> todos = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        List<Manager> managers = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            User user = user(id);
+            todos.add(todo(id, user));
+
+            Comment comment = new Comment("contents" + id, user, todo);
+            ReflectionTestUtils.setField(comment, "id", id);
+            comments.add(comment);
+
+            Manager manager = new Manager(user, todo);
+            ReflectionTestUtils.setField(manager, "id", id);
+            managers.add(manager);
+        }
+
+        TodoRepository todoRepository = StubRepository.of(TodoRepository.class, Map.of(
+                "findAllByOrderByModifiedAtDesc", new PageImpl<>(todos, PageRequest.of(0, size), size * 10L),
+                "findById", Optional.of(todo)
+        ));
+        CommentRepository commentRepository = StubRepository.of(CommentRepository.class, Map.of(
+                "findByTodoIdWithUser", comments
+        ));
+        ManagerRepository managerRepository = StubRepository.of(ManagerRepository.class, Map.of(
+                "findByTodoIdWithUser", managers
+        ));
+
+        todoService = new TodoService(todoRepository, null);
+        commentService = new CommentService(todoRepository, commentRepository);
+        managerService = new ManagerService(managerRepository, null, todoRepository, null);
+    }
+
+    @Benchmark
+    public Object getTodos() {
+        return todoService.getTodos(1, size);
+    }
+
+    @Benchmark
+    public Object getComments() {
+        return commentService.getComments(1L);
+    }
+
+    @Benchmark
+    public Object getManagers() {
+        return managerService.getManagers(1L);
+    }
+
+    private static User user(long id) {
+        User user = new User("user" + id + "@example.com", "hash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private static Todo todo(long id, User user) {
+        Todo todo = new Todo("title" + id, "contents" + id, "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.now());
+        ReflectionTestUtils.setField(todo, "modifiedAt", LocalDateTime.now());
+        return todo;
+    }
+}
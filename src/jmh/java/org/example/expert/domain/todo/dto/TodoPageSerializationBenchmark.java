@@ -0,0 +1,52 @@
+package org.example.expert.domain.todo.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /todos 응답 직렬화 (Page<TodoResponse> -> JSON bytes)
+// Spring MVC 와 같은 설정의 ObjectMapper (JavaTimeModule 포함) 를 사용한다
+// 애플리케이션이 VIA_DTO 모드이므로 Page 를 PagedModel 로 감싸서 직렬화한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TodoPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<TodoResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoResponse> content = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            content.add(new TodoResponse(id, "title" + id, "contents" + id, "Sunny",
+                    new UserResponse(id, "user" + id + "@example.com"), now, now));
+        }
+        Page<TodoResponse> todos = new PageImpl<>(content, PageRequest.of(0, size), size * 10L);
+        page = new PagedModel<>(todos);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
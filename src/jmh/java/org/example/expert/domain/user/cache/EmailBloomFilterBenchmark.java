@@ -0,0 +1,81 @@
+package org.example.expert.domain.user.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+// 신규 이메일로 가입할 때 중복 확인 단계의 처리량 비교
+// existsQuery : 기존 방식 (항상 exists 쿼리)
+// bloomFilterFirst : 블룸 필터가 양성일 때만 exists 쿼리
+// 인메모리 H2 는 네트워크 왕복이 없으므로 실제 MySQL 에서는 차이가 훨씬 커진다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmailBloomFilterBenchmark {
+
+    @Param({"100000"})
+    private int registeredUsers;
+
+    private Connection connection;
+    private PreparedStatement existsStatement;
+    private EmailBloomFilter emailBloomFilter;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bloom;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+            statement.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(255) UNIQUE)");
+        }
+
+        emailBloomFilter = new EmailBloomFilter(null);
+        emailBloomFilter.init(registeredUsers * 2, 0.01);
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (email) VALUES (?)")) {
+            for (int i = 0; i < registeredUsers; i++) {
+                String email = "user" + i + "@example.com";
+                insert.setString(1, email);
+                insert.addBatch();
+                emailBloomFilter.put(email);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        existsStatement = connection.prepareStatement("SELECT 1 FROM users WHERE email = ? LIMIT 1");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        existsStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean existsQuery() throws SQLException {
+        return exists(nextNewEmail());
+    }
+
+    @Benchmark
+    public boolean bloomFilterFirst() throws SQLException {
+        String email = nextNewEmail();
+        return emailBloomFilter.mightContain(email) && exists(email);
+    }
+
+    private String nextNewEmail() {
+        return "new" + (sequence++) + "@example.com";
+    }
+
+    private boolean exists(String email) throws SQLException {
+        existsStatement.setString(1, email);
+        try (ResultSet resultSet = existsStatement.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// 요청 중 SELECT 한 번 (100 row 를 모두 읽는다) 에 SqlStatsDataSource 의 프록시가 더하는 비용
+// plain : 원래 커넥션, sqlStats : Connection, PreparedStatement, ResultSet 을 모두 프록시로 감싼 커넥션
+// 운영에서는 sql-stats.jdbc.enabled=false (기본값) 로 plain 과 같은 경로를 쓴다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SqlStatsDataSourceBenchmark {
+
+    private static final int ROWS = 100;
+
+    @Param({"plain", "sqlStats"})
+    public String dataSource;
+
+    private SingleConnectionDataSource target;
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        target = new SingleConnectionDataSource("jdbc:h2:mem:sqlstats-benchmark;DB_CLOSE_DELAY=-1", true);
+        try (Connection setup = target.getConnection(); Statement statement = setup.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS todos");
+            statement.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+            statement.execute("INSERT INTO todos SELECT x, 'title' || x FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        }
+        DataSource measured = "sqlStats".equals(dataSource) ? new SqlStatsDataSource(target) : target;
+        connection = measured.getConnection();
+        RequestSqlStats.begin("GET /todos");
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestSqlStats.end();
+        target.destroy();
+    }
+
+    @Benchmark
+    public long selectAll() throws SQLException {
+        long sum = 0;
+        try (PreparedStatement select = connection.prepareStatement("SELECT id, title FROM todos WHERE id > ?")) {
+            select.setLong(1, 0);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    sum += resultSet.getLong(1) + resultSet.getString(2).length();
+                }
+            }
+        }
+        return sum;
+    }
+}
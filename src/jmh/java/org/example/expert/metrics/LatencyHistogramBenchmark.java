@@ -0,0 +1,57 @@
+package org.example.expert.metrics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 건을 기록하는 비용 (목표 : 100ns 미만, 할당 0)
+// 할당 여부는 -prof gc 의 gc.alloc.rate.norm 이 0 B/op 인지로 확인한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LatencyHistogramBenchmark {
+
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final EndpointMetrics endpointMetrics = new EndpointMetrics();
+
+    @Setup
+    public void setUp() {
+        // 엔드포인트 통계 객체는 첫 요청에서만 만들어지므로 미리 만들어 둔다
+        endpointMetrics.requestStarted();
+        endpointMetrics.requestCompleted("GET", "/todos/{todoId}", 200, 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void record(ThreadState state) {
+        latencyHistogram.record(state.nextLatency());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended(ThreadState state) {
+        latencyHistogram.record(state.nextLatency());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void endpointRequest(ThreadState state) {
+        endpointMetrics.requestStarted();
+        endpointMetrics.requestCompleted("GET", "/todos/{todoId}", 200, state.nextLatency());
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private long seed = 0x9E3779B97F4A7C15L;
+
+        // 100µs ~ 100ms 범위의 값
+        long nextLatency() {
+            seed ^= seed << 13;
+            seed ^= seed >>> 7;
+            seed ^= seed << 17;
+            return 100_000 + (seed >>> 1) % 100_000_000;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+// 메서드 이름별로 정해진 값을 돌려주는 repository (DB 없이 서비스의 DTO 변환만 측정)
+// Mockito 는 호출마다 인자를 기록하므로 측정 대상보다 비용이 커질 수 있다
+public final class StubRepository {
+
+    private StubRepository() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> repositoryType, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("toString") ? repositoryType.getSimpleName() : null;
+            }
+            if (!results.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return results.get(method.getName());
+        });
+    }
+}
@@ -1,46 +1,66 @@
 package org.example.expert.aop;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.aop.audit.AuditEvent;
+import org.example.expert.aop.audit.AuditLogger;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.WebUtils;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.Objects;
 
+// 관리자 API 호출을 감사 로그로 남긴다
+// 요청 스레드에서는 AuditEvent 생성 (응답은 JSON 트리로 복사) 까지만 하고 직렬화와 기록은 AuditLogger 의 전용 스레드가 한다
 @Aspect
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
+    private final AuditLogger auditLogger;
 
     //@Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.*(..))")
     @Around("execution(* org.example.expert.domain.*.*.*AdminController.*(..))")
     public Object logging(ProceedingJoinPoint joinPoint) throws Throwable {
         HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
 
-        // body 가져오기
-        ContentCachingRequestWrapper requestWrapper = (ContentCachingRequestWrapper) request;
+        long timestamp = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Object proceed = null;
+        String error = null;
+        try {
+            proceed = joinPoint.proceed();
+            return proceed;
+        } catch (Throwable e) {
+            error = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            auditLogger.publish(createEvent(request, timestamp, proceed, error, System.nanoTime() - startNanos));
+        }
+    }
 
-        log.info("요청 시간 : {}", LocalDateTime.now());
-        log.info("User Id : {}, User Role : {}", request.getAttribute("userId"),  request.getAttribute("userRole"));
-        log.info("METHOD : {}", request.getMethod());
-        log.info("URL : {}", request.getRequestURI());
-        log.info("REQUEST BODY : {}", new String(requestWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+    private AuditEvent createEvent(HttpServletRequest request, long timestamp, Object response, String error, long durationNanos) {
+        // RequestFilter 가 감싸지 않은 경로라면 본문을 남기지 않는다
+        ContentCachingRequestWrapper requestWrapper = WebUtils.getNativeRequest(request, ContentCachingRequestWrapper.class);
+        byte[] requestBody = requestWrapper == null ? null : requestWrapper.getContentAsByteArray();
+        boolean truncated = requestBody != null && request.getContentLengthLong() > requestBody.length;
 
-        Object proceed = joinPoint.proceed();
-        log.info("RESPONSE BODY : {}", objectMapper.writeValueAsString(proceed));
-        return proceed;
+        return new AuditEvent(
+                timestamp,
+                request.getAttribute("userId"),
+                request.getAttribute("userRole"),
+                request.getMethod(),
+                request.getRequestURI(),
+                requestBody,
+                truncated,
+                response == null ? null : auditLogger.snapshot(response),
+                error,
+                durationNanos
+        );
     }
 }
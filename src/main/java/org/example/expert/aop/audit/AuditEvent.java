@@ -0,0 +1,37 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+// 관리자 API 호출 한 건의 감사 기록
+// 요청 스레드에서는 값만 모으고 직렬화는 소비 스레드(AuditLogger)가 한다
+// 응답은 요청 스레드에서 복사한 JSON 트리 (AuditLogger.snapshot) 이므로 이후에 바뀌지 않는다
+@Getter
+public class AuditEvent {
+
+    private final long timestamp;
+    private final Object userId;
+    private final Object userRole;
+    private final String method;
+    private final String uri;
+    private final byte[] requestBody;
+    private final boolean requestBodyTruncated;
+    private final JsonNode response;
+    private final String error;
+    private final long durationNanos;
+
+    public AuditEvent(long timestamp, Object userId, Object userRole, String method, String uri,
+                      byte[] requestBody, boolean requestBodyTruncated,
+                      JsonNode response, String error, long durationNanos) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.userRole = userRole;
+        this.method = method;
+        this.uri = uri;
+        this.requestBody = requestBody;
+        this.requestBodyTruncated = requestBodyTruncated;
+        this.response = response;
+        this.error = error;
+        this.durationNanos = durationNanos;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// AuditLogWriter 가 남긴 세그먼트를 오래된 순서대로 읽는다
+// 사용법 : java ... AuditLogReader <dir> [userId=1] [uri=/admin/users] [since=2024-01-01T00:00:00] [limit=100]
+public class AuditLogReader {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public AuditLogReader(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    public void forEach(Consumer<byte[]> consumer) throws IOException {
+        for (Path segment : AuditLogWriter.segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= AuditLogWriter.LENGTH_BYTES) {
+                    int length = buffer.getInt();
+                    // 0 이면 아직 쓰이지 않은 영역
+                    if (length <= 0 || length > buffer.remaining()) {
+                        break;
+                    }
+                    byte[] record = new byte[length];
+                    buffer.get(record);
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    // 조건에 맞는 기록을 오래된 순서대로 최대 limit 개 반환한다
+    public List<JsonNode> query(Predicate<JsonNode> filter, int limit) throws IOException {
+        List<JsonNode> result = new ArrayList<>();
+        forEach(record -> {
+            if (result.size() >= limit) {
+                return;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(record);
+                if (filter.test(node)) {
+                    result.add(node);
+                }
+            } catch (IOException e) {
+                // 깨진 기록은 건너뛴다
+            }
+        });
+        return result;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: AuditLogReader <dir> [userId=1] [uri=/admin/users] [since=2024-01-01T00:00:00] [limit=100]");
+            System.exit(1);
+        }
+
+        Predicate<JsonNode> filter = node -> true;
+        int limit = 100;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("잘못된 옵션입니다. " + args[i]);
+            }
+            String value = option[1];
+            switch (option[0]) {
+                case "userId" -> filter = filter.and(node -> value.equals(node.path("userId").asText()));
+                case "uri" -> filter = filter.and(node -> node.path("uri").asText().startsWith(value));
+                case "since" -> {
+                    long since = LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    filter = filter.and(node -> node.path("timestamp").asLong() >= since);
+                }
+                case "limit" -> limit = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다. " + option[0]);
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (JsonNode node : new AuditLogReader(Path.of(args[0]), objectMapper).query(filter, limit)) {
+            System.out.println(objectMapper.writeValueAsString(node));
+        }
+    }
+}
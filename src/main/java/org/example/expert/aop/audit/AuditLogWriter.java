@@ -0,0 +1,115 @@
+package org.example.expert.aop.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 메모리 맵 세그먼트 파일에 [int 길이][본문] 형식으로 기록을 이어 붙인다
+// 세그먼트가 차면 다음 파일로 넘어가고, maxSegments 를 넘는 오래된 파일은 지운다
+// 단일 스레드(AuditLogger 의 소비 스레드)에서만 사용한다
+public class AuditLogWriter implements Closeable {
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    public AuditLogWriter(Path directory, int segmentBytes, int maxSegments) throws IOException {
+        if (segmentBytes <= LENGTH_BYTES) {
+            throw new IllegalArgumentException("segmentBytes 가 너무 작습니다. segmentBytes=" + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+
+        Files.createDirectories(directory);
+        // 재시작 시 기존 세그먼트에 이어 쓰지 않고 새 세그먼트부터 시작한다
+        List<Path> segments = segments(directory);
+        segmentIndex = segments.isEmpty() ? 0 : segmentIndex(segments.get(segments.size() - 1)) + 1;
+        openSegment();
+    }
+
+    // 세그먼트 하나에 들어가지 않는 기록은 버리고 false 를 반환한다
+    public boolean append(byte[] record) throws IOException {
+        int required = LENGTH_BYTES + record.length;
+        if (required > segmentBytes) {
+            return false;
+        }
+        if (buffer.remaining() < required) {
+            rotate();
+        }
+
+        // 본문을 먼저 쓰고 길이를 마지막에 써서, 읽는 쪽이 덜 쓰인 기록을 보지 않게 한다
+        int position = buffer.position();
+        buffer.position(position + LENGTH_BYTES);
+        buffer.put(record);
+        buffer.putInt(position, record.length);
+        return true;
+    }
+
+    public void flush() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        segmentIndex++;
+        openSegment();
+        deleteOldSegments();
+    }
+
+    // 세그먼트의 남은 공간은 0 으로 채워져 있으므로 길이 0 이 곧 끝 표시가 된다
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.jfr.event.AuditSerializationEvent;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// 요청 스레드는 AuditEvent 를 링 버퍼에 넣기만 하고,
+// 전용 스레드 하나가 모아서 직렬화한 뒤 AuditLogWriter 로 기록한다
+// 버퍼가 비면 소비 스레드는 park 하고, 다음 publish 가 unpark 한다 (유휴 상태에서는 깨어나지 않는다)
+// 세그먼트는 flush-interval 마다 force 하므로 OS 가 죽어도 잃는 기록은 그 사이의 기록뿐이다
+@Slf4j(topic = "AuditLogger")
+@Component
+@RequiredArgsConstructor
+public class AuditLogger implements MetricsSource {
+
+    public enum FullPolicy {
+        DROP,   // 버퍼가 가득 차면 기록을 버린다 (요청 지연 없음)
+        BLOCK   // 자리가 날 때까지 요청 스레드가 기다린다 (기록 유실 없음)
+    }
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${audit.log.dir:logs/audit}")
+    private String directory = "logs/audit";
+
+    @Value("${audit.log.segment-bytes:16777216}")
+    private int segmentBytes = 16 * 1024 * 1024;
+
+    @Value("${audit.log.max-segments:16}")
+    private int maxSegments = 16;
+
+    @Value("${audit.buffer.capacity:8192}")
+    private int capacity = 8192;
+
+    @Value("${audit.buffer.full-policy:DROP}")
+    private FullPolicy fullPolicy = FullPolicy.DROP;
+
+    @Value("${audit.batch-size:256}")
+    private int batchSize = 256;
+
+    @Value("${audit.log.flush-interval-millis:1000}")
+    private long flushIntervalMillis = 1000;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private AuditRingBuffer<AuditEvent> ringBuffer;
+    private AuditLogWriter writer;
+    private Thread consumer;
+    private volatile boolean running;
+    // 소비 스레드가 park 하려는 중이면 true, 생산자는 이 값이 true 일 때만 unpark 한다
+    private volatile boolean consumerParked;
+
+    @PostConstruct
+    public void start() throws IOException {
+        ringBuffer = new AuditRingBuffer<>(capacity);
+        writer = new AuditLogWriter(Path.of(directory), segmentBytes, maxSegments);
+        running = true;
+        consumer = new Thread(this::consume, "audit-log-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void publish(AuditEvent event) {
+        if (ringBuffer.offer(event)) {
+            wakeConsumer();
+            return;
+        }
+        if (fullPolicy == FullPolicy.BLOCK) {
+            while (running) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (ringBuffer.offer(event)) {
+                    wakeConsumer();
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+    }
+
+    // 컨트롤러 결과는 요청이 끝난 뒤 바뀌거나 지연 로딩될 수 있으므로 요청 스레드에서 JSON 트리로 복사해 둔다
+    // 바이트 직렬화는 여전히 소비 스레드가 한다
+    public JsonNode snapshot(Object response) {
+        Object body = response instanceof ResponseEntity<?> responseEntity ? responseEntity.getBody() : response;
+        try {
+            return objectMapper.valueToTree(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("감사 로그 응답을 복사하지 못했습니다. type={}", body.getClass().getName(), e);
+            return objectMapper.getNodeFactory().textNode("<" + body.getClass().getSimpleName() + ">");
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.counter("audit_log_written_total", "기록한 감사 로그 수", written.sum())
+                .counter("audit_log_dropped_total", "버린 감사 로그 수", dropped.sum())
+                .gauge("audit_log_buffer_size", "링 버퍼에 남은 감사 로그 수", ringBuffer.size());
+    }
+
+    private void wakeConsumer() {
+        if (consumerParked) {
+            consumerParked = false;
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consume() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        try {
+            // 종료 요청 후에도 버퍼에 남은 기록은 모두 쓴다
+            while (running || ringBuffer.size() > 0) {
+                batch.clear();
+                if (ringBuffer.drainTo(batch, batchSize) > 0) {
+                    for (AuditEvent event : batch) {
+                        write(event);
+                    }
+                    dirty = true;
+                } else {
+                    awaitEvents(dirty ? Math.max(1, lastFlush + flushIntervalNanos - System.nanoTime()) : 0);
+                }
+                if (dirty && System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    flush();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            }
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("감사 로그 세그먼트를 닫지 못했습니다.", e);
+            }
+        }
+    }
+
+    // 다음 publish 나 종료까지 기다린다, timeoutNanos 가 0 이하면 시간 제한 없이 기다린다
+    // consumerParked 를 먼저 쓰고 버퍼를 다시 확인하므로, 그 사이에 들어온 기록의 unpark 를 놓치지 않는다
+    private void awaitEvents(long timeoutNanos) {
+        consumerParked = true;
+        if (ringBuffer.size() > 0 || !running) {
+            consumerParked = false;
+            return;
+        }
+        if (timeoutNanos > 0) {
+            LockSupport.parkNanos(this, timeoutNanos);
+        } else {
+            LockSupport.park(this);
+        }
+        consumerParked = false;
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (RuntimeException e) {
+            log.warn("감사 로그 세그먼트를 디스크에 쓰지 못했습니다.", e);
+        }
+    }
+
+    private void write(AuditEvent event) {
+        try {
+            if (writer.append(serializeWithEvent(event))) {
+                written.increment();
+            } else {
+                dropped.increment();
+            }
+        } catch (Exception e) {
+            dropped.increment();
+            log.warn("감사 로그를 기록하지 못했습니다. uri={}", event.getUri(), e);
+        }
+    }
+
+    // 요청 스레드가 아니므로 endpoint 와 권한은 AuditEvent 에서 채운다
+    private byte[] serializeWithEvent(AuditEvent event) throws IOException {
+        AuditSerializationEvent jfrEvent = new AuditSerializationEvent();
+        jfrEvent.begin();
+        byte[] bytes = null;
+        try {
+            bytes = serialize(event);
+            return bytes;
+        } finally {
+            jfrEvent.setEndpoint(event.getMethod() + " " + event.getUri());
+            jfrEvent.setUserRole(event.getUserRole());
+            jfrEvent.setBytes(bytes == null ? 0 : bytes.length);
+            jfrEvent.commitIfEnabled();
+        }
+    }
+
+    byte[] serialize(AuditEvent event) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("timestamp", event.getTimestamp());
+        node.put("userId", event.getUserId() == null ? null : String.valueOf(event.getUserId()));
+        node.put("userRole", event.getUserRole() == null ? null : String.valueOf(event.getUserRole()));
+        node.put("method", event.getMethod());
+        node.put("uri", event.getUri());
+        node.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(event.getDurationNanos()));
+        node.put("requestBody", event.getRequestBody() == null ? null : new String(event.getRequestBody(), StandardCharsets.UTF_8));
+        node.put("requestBodyTruncated", event.isRequestBodyTruncated());
+        node.set("response", event.getResponse());
+        node.put("error", event.getError());
+        return objectMapper.writeValueAsBytes(node);
+    }
+}
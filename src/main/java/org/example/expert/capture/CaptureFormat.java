@@ -0,0 +1,167 @@
+package org.example.expert.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 캡처 파일 형식
+// [int magic][byte version][long 캡처 시작 시각(epoch millis)] 다음에 요청이 이어진다
+// 요청 : [varlong offsetMicros][string method][string uri][varlong userId + 1 (0 이면 없음)][string userRole]
+//        [varint 헤더 수][string 이름][string 값]...[byte flags][varint 본문 길이 + 1 (0 이면 없음)][본문]
+//        [varint status][varlong durationMicros]
+// 정수는 7비트 가변 길이, 문자열은 [varint 길이][UTF-8] 로 쓴다
+// 요청은 응답이 끝난 순서로 기록되므로 읽을 때 offsetMicros 로 다시 정렬한다
+public final class CaptureFormat {
+
+    static final int MAGIC = 0x45585452;
+    static final int VERSION = 1;
+
+    private static final int FLAG_BODY_TRUNCATED = 1;
+
+    private CaptureFormat() {
+    }
+
+    public static void writeHeader(DataOutputStream out, long startEpochMillis) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(startEpochMillis);
+    }
+
+    // 캡처 시작 시각을 반환한다
+    public static long readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("캡처 파일이 아닙니다.");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 캡처 파일 버전입니다. version=" + version);
+        }
+        return in.readLong();
+    }
+
+    public static void write(DataOutputStream out, CapturedRequest request) throws IOException {
+        writeVarLong(out, request.getOffsetMicros());
+        writeString(out, request.getMethod());
+        writeString(out, request.getUri());
+        writeVarLong(out, request.getUserId() == null ? 0 : request.getUserId() + 1);
+        writeString(out, request.getUserRole() == null ? "" : request.getUserRole());
+
+        Map<String, String> headers = request.getHeaders();
+        writeVarLong(out, headers.size());
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            writeString(out, header.getKey());
+            writeString(out, header.getValue());
+        }
+
+        out.writeByte(request.isBodyTruncated() ? FLAG_BODY_TRUNCATED : 0);
+        byte[] body = request.getBody();
+        writeVarLong(out, body == null ? 0 : body.length + 1L);
+        if (body != null) {
+            out.write(body);
+        }
+        writeVarLong(out, request.getStatus());
+        writeVarLong(out, request.getDurationMicros());
+    }
+
+    // 파일 끝이면 null
+    public static CapturedRequest read(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        long offsetMicros = readVarLong(in, first);
+        String method = readString(in);
+        String uri = readString(in);
+        long userId = readVarLong(in);
+        String userRole = readString(in);
+
+        int headerCount = (int) readVarLong(in);
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(in), readString(in));
+        }
+
+        boolean bodyTruncated = (in.readUnsignedByte() & FLAG_BODY_TRUNCATED) != 0;
+        int bodyLength = (int) readVarLong(in);
+        byte[] body = null;
+        if (bodyLength > 0) {
+            body = new byte[bodyLength - 1];
+            in.readFully(body);
+        }
+        int status = (int) readVarLong(in);
+        long durationMicros = readVarLong(in);
+
+        return new CapturedRequest(offsetMicros, method, uri, userId == 0 ? null : userId - 1,
+                userRole.isEmpty() ? null : userRole, headers, body, bodyTruncated, status, durationMicros);
+    }
+
+    // 도착 순서로 정렬해서 반환한다, 비정상 종료로 마지막 요청이 덜 쓰였다면 그 앞까지만 읽는다
+    public static List<CapturedRequest> readAll(Path path) throws IOException {
+        List<CapturedRequest> requests = new ArrayList<>();
+        try (InputStream input = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
+            readHeader(in);
+            try {
+                CapturedRequest request;
+                while ((request = read(in)) != null) {
+                    requests.add(request);
+                }
+            } catch (EOFException ignored) {
+                // 덜 쓰인 마지막 요청
+            }
+        }
+        requests.sort(Comparator.comparingLong(CapturedRequest::getOffsetMicros));
+        return requests;
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        return readVarLong(in, in.readUnsignedByte());
+    }
+
+    private static long readVarLong(DataInputStream in, int first) throws IOException {
+        long value = first & 0x7F;
+        int shift = 7;
+        int current = first;
+        while ((current & 0x80) != 0) {
+            if (shift > 63) {
+                throw new IOException("잘못된 가변 길이 정수입니다.");
+            }
+            current = in.readUnsignedByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
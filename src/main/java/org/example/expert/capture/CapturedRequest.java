@@ -0,0 +1,41 @@
+package org.example.expert.capture;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+// 캡처한 요청 한 건 (재생에 필요한 값만)
+// Authorization 헤더 대신 JwtFilter 가 꺼낸 userId, userRole 을 남기고, 재생할 때 새 토큰을 발급한다
+@Getter
+public class CapturedRequest {
+
+    // 캡처 시작 시점부터 요청 도착까지의 시간
+    private final long offsetMicros;
+    private final String method;
+    // path + query string
+    private final String uri;
+    private final Long userId;
+    private final String userRole;
+    private final Map<String, String> headers;
+    // 본문이 없거나 잘렸다면 null
+    private final byte[] body;
+    private final boolean bodyTruncated;
+    // 캡처 당시의 응답 상태와 처리 시간 (재생 결과와 비교용)
+    private final int status;
+    private final long durationMicros;
+
+    public CapturedRequest(long offsetMicros, String method, String uri, Long userId, String userRole,
+                           Map<String, String> headers, byte[] body, boolean bodyTruncated,
+                           int status, long durationMicros) {
+        this.offsetMicros = offsetMicros;
+        this.method = method;
+        this.uri = uri;
+        this.userId = userId;
+        this.userRole = userRole;
+        this.headers = headers;
+        this.body = body;
+        this.bodyTruncated = bodyTruncated;
+        this.status = status;
+        this.durationMicros = durationMicros;
+    }
+}
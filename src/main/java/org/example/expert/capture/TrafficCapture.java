@@ -0,0 +1,122 @@
+package org.example.expert.capture;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청 스레드는 CapturedRequest 를 큐에 넣기만 하고, 전용 스레드 하나가 CaptureFormat 으로 파일에 쓴다
+// 큐가 가득 차면 버리고 (요청 지연 없음), maxRequests 건을 받은 뒤에는 더 받지 않는다
+@Slf4j(topic = "TrafficCapture")
+public class TrafficCapture implements MetricsSource, Closeable {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final Path file;
+    private final long maxRequests;
+    private final long startNanos = System.nanoTime();
+    private final BlockingQueue<CapturedRequest> queue;
+    private final DataOutputStream out;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public TrafficCapture(Path file, int queueCapacity, long maxRequests) throws IOException {
+        this.file = file;
+        this.maxRequests = maxRequests;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        CaptureFormat.writeHeader(out, System.currentTimeMillis());
+
+        writer = new Thread(this::consume, "traffic-capture-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("요청 캡처를 시작합니다. file={}", file.toAbsolutePath());
+    }
+
+    public boolean isAccepting() {
+        return running && accepted.get() < maxRequests;
+    }
+
+    // 캡처 시작 시점부터의 시간 (CapturedRequest.offsetMicros)
+    public long offsetMicros(long arrivalNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(arrivalNanos - startNanos);
+    }
+
+    public void publish(CapturedRequest request) {
+        if (accepted.incrementAndGet() > maxRequests || !queue.offer(request)) {
+            dropped.increment();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    // 큐에 남은 요청을 모두 쓰고 파일을 닫는다
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.counter("traffic_capture_written_total", "캡처 파일에 기록한 요청 수", written.sum())
+                .counter("traffic_capture_dropped_total", "캡처하지 못하고 버린 요청 수", dropped.sum())
+                .gauge("traffic_capture_queue_size", "캡처 큐에 남은 요청 수", queue.size());
+    }
+
+    private void consume() {
+        try {
+            while (running || !queue.isEmpty()) {
+                CapturedRequest request = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (request == null) {
+                    out.flush();
+                    continue;
+                }
+                CaptureFormat.write(out, request);
+                written.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            running = false;
+            log.warn("캡처 파일에 쓰지 못해 캡처를 멈춥니다. file={}", file, e);
+        } finally {
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.warn("캡처 파일을 닫지 못했습니다.", e);
+            }
+        }
+    }
+}
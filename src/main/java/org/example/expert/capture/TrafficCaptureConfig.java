@@ -0,0 +1,48 @@
+package org.example.expert.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+// 실제 요청을 캡처 파일로 남긴다 (perf 의 TrafficReplay 로 재생)
+// traffic-capture.enabled=true 일 때만 켜지며, 기본적으로 인증(/auth)과 운영용(/admin, /internal) 요청은 남기지 않는다
+@Configuration
+@ConditionalOnProperty(name = "traffic-capture.enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+
+    @Bean(destroyMethod = "close")
+    public TrafficCapture trafficCapture(
+            @Value("${traffic-capture.dir:logs/traffic}") String directory,
+            @Value("${traffic-capture.queue-capacity:8192}") int queueCapacity,
+            @Value("${traffic-capture.max-requests:1000000}") long maxRequests
+    ) throws IOException {
+        Path file = Path.of(directory).resolve("capture-" + System.currentTimeMillis() + ".bin");
+        return new TrafficCapture(file, queueCapacity, maxRequests);
+    }
+
+    // 도착 간격을 그대로 남기도록 TracingFilter 보다도 먼저 실행합니다.
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(
+            TrafficCapture trafficCapture,
+            ObjectMapper objectMapper,
+            @Value("${traffic-capture.exclude-paths:/auth/,/admin/,/internal/}") List<String> excludePaths,
+            @Value("${traffic-capture.headers:Content-Type,Accept}") List<String> headers,
+            @Value("${traffic-capture.masked-fields:password,oldPassword,newPassword,refreshToken}") List<String> maskedFields,
+            @Value("${traffic-capture.max-body-bytes:65536}") int maxBodyBytes
+    ) {
+        FilterRegistrationBean<TrafficCaptureFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TrafficCaptureFilter(trafficCapture, objectMapper, excludePaths, headers,
+                maskedFields, maxBodyBytes));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(-1);
+
+        return registrationBean;
+    }
+}
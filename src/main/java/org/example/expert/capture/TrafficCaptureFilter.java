@@ -0,0 +1,157 @@
+package org.example.expert.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.config.RequestCompletion;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 요청을 CapturedRequest 로 만들어 TrafficCapture 에 넘긴다 (traffic-capture.enabled=true 일 때만 등록)
+// RequestFilter 와 같은 방식으로 본문을 ContentCachingRequestWrapper 에 캐시했다가 응답 후에 꺼낸다
+// 헤더는 허용 목록만 남기고, 토큰 대신 JwtFilter 가 넣어둔 userId, userRole 을 남긴다
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    static final String MASK = "***";
+
+    private final TrafficCapture trafficCapture;
+    private final ObjectMapper objectMapper;
+    private final List<String> excludePaths;
+    private final List<String> headers;
+    private final Set<String> maskedFields = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final int maxBodyBytes;
+
+    public TrafficCaptureFilter(TrafficCapture trafficCapture, ObjectMapper objectMapper, List<String> excludePaths,
+                                List<String> headers, List<String> maskedFields, int maxBodyBytes) {
+        this.trafficCapture = trafficCapture;
+        this.objectMapper = objectMapper;
+        this.excludePaths = excludePaths;
+        this.headers = headers;
+        this.maskedFields.addAll(maskedFields);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!trafficCapture.isAccepting()) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        for (String excludePath : excludePaths) {
+            if (uri.startsWith(excludePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long arrivalNanos = System.nanoTime();
+        ContentCachingRequestWrapper wrapper = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(wrapper, response);
+            failed = false;
+        } finally {
+            if (failed) {
+                trafficCapture.publish(capture(wrapper, arrivalNanos, HttpServletResponse.SC_INTERNAL_SERVER_ERROR));
+            } else {
+                // 비동기 요청은 응답이 끝난 뒤의 상태 코드와 처리 시간을 남긴다
+                RequestCompletion.whenComplete(request, () ->
+                        trafficCapture.publish(capture(wrapper, arrivalNanos, response.getStatus())));
+            }
+        }
+    }
+
+    private CapturedRequest capture(ContentCachingRequestWrapper request, long arrivalNanos, int status) {
+        long durationMicros = (System.nanoTime() - arrivalNanos) / 1_000;
+        String uri = request.getQueryString() == null ? request.getRequestURI() : request.getRequestURI() + "?" + request.getQueryString();
+
+        Map<String, String> capturedHeaders = new LinkedHashMap<>();
+        for (String name : headers) {
+            List<String> values = Collections.list(request.getHeaders(name));
+            if (!values.isEmpty()) {
+                capturedHeaders.put(name, String.join(", ", values));
+            }
+        }
+
+        // 잘린 본문은 마스킹할 수 없으므로 남기지 않는다
+        // chunked 요청은 Content-Length 가 -1 이므로 캐시된 길이가 한도에 닿았는지도 본다
+        byte[] content = request.getContentAsByteArray();
+        boolean bodyTruncated = request.getContentLengthLong() > maxBodyBytes || content.length >= maxBodyBytes;
+        byte[] body = null;
+        if (!bodyTruncated && content.length > 0) {
+            body = sanitize(content, request.getContentType());
+        }
+
+        Object userId = request.getAttribute("userId");
+        Object userRole = request.getAttribute("userRole");
+        return new CapturedRequest(trafficCapture.offsetMicros(arrivalNanos), request.getMethod(), uri,
+                userId instanceof Long id ? id : null, userRole == null ? null : String.valueOf(userRole),
+                capturedHeaders, body, bodyTruncated, status, durationMicros);
+    }
+
+    // JSON 본문에서 비밀번호 같은 필드의 값을 가린다
+    // JSON 이 아니거나 (form, text/plain 등) 파싱하지 못한 본문은 가릴 수 없으므로 null (본문 없이 기록)
+    byte[] sanitize(byte[] body, String contentType) {
+        if (maskedFields.isEmpty()) {
+            return body;
+        }
+        if (contentType == null || !isJson(contentType)) {
+            return null;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            return mask(root) ? objectMapper.writeValueAsBytes(root) : body;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean isJson(String contentType) {
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return contentType.toLowerCase(Locale.ROOT).contains("json");
+        }
+    }
+
+    private boolean mask(JsonNode node) {
+        boolean masked = false;
+        if (node instanceof ObjectNode objectNode) {
+            List<String> targets = new ArrayList<>();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (maskedFields.contains(field.getKey()) && field.getValue().isValueNode()) {
+                    targets.add(field.getKey());
+                } else {
+                    masked |= mask(field.getValue());
+                }
+            }
+            targets.forEach(name -> objectNode.put(name, MASK));
+            masked |= !targets.isEmpty();
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                masked |= mask(element);
+            }
+        }
+        return masked;
+    }
+}
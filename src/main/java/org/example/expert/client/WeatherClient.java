@@ -2,6 +2,8 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.jfr.event.WeatherCallEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -17,14 +20,33 @@ import java.time.format.DateTimeFormatter;
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    // 부하 테스트에서는 로컬 stub 으로 바꿔서 사용한다
+    private final String weatherApiUrl;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 느린 날씨 API 가 작업 스레드 (AsyncExecutors 의 io) 를 오래 붙잡지 않도록 시간 제한을 둔다
+    public WeatherClient(RestTemplateBuilder builder,
+                         @Value("${weather.api.url:https://f-api.github.io}") String weatherApiUrl,
+                         @Value("${weather.api.connect-timeout-millis:2000}") long connectTimeoutMillis,
+                         @Value("${weather.api.read-timeout-millis:3000}") long readTimeoutMillis) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMillis))
+                .build();
+        this.weatherApiUrl = weatherApiUrl;
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        URI uri = buildWeatherApiUri();
+        WeatherCallEvent event = new WeatherCallEvent();
+        event.begin();
+        ResponseEntity<WeatherDto[]> responseEntity = null;
+        try {
+            responseEntity = restTemplate.getForEntity(uri, WeatherDto[].class);
+        } finally {
+            event.setUri(uri.toString());
+            event.setStatus(responseEntity == null ? -1 : responseEntity.getStatusCode().value());
+            event.commitIfEnabled();
+        }
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -48,7 +70,7 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(weatherApiUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -0,0 +1,163 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.jdbc.RequestSqlStats;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.example.expert.tracing.Trace;
+import org.example.expert.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 느린 요청을 Tomcat 스레드 밖에서 실행한다 (컨트롤러가 CompletableFuture 를 반환)
+// Tomcat 스레드는 바로 풀로 돌아가므로 느린 쓰기가 몰려도 빠른 조회 요청은 기다리지 않는다
+//   io  : 외부 API 호출 + insert 처럼 대부분 기다리는 작업, 스레드를 넉넉하게 둔다
+//   cpu : bcrypt 처럼 CPU 를 쓰는 작업, 코어 수 이상으로 늘려도 처리량이 늘지 않는다
+// 큐가 가득 차면 RejectedExecutionException, timeout 을 넘기면 TimeoutException 으로 끝난다 (둘 다 503)
+// timeout 이 지나도 실행 중인 작업은 멈추지 않으므로 외부 API 자체의 timeout 도 함께 둬야 한다
+// 요청의 trace, SQL 통계, 요청 속성은 작업 스레드로 넘겨준다
+// 가상 스레드 모드 (spring.threads.virtual.enabled) 에서는 io 도 작업마다 가상 스레드를 쓴다
+//   동시에 DB 를 쓰는 요청 수는 JDBC 커넥션 풀이 제한하므로 (application-virtual.yml) 고정 크기 풀로 한 번 더 막지 않는다
+//   cpu 는 그대로 코어 수만큼의 플랫폼 스레드 풀이다 (bcrypt 가 carrier 스레드를 붙잡지 않는다)
+@Slf4j
+@Component
+public class AsyncExecutors implements MetricsSource {
+
+    private final Executor io;
+    private final Executor cpu;
+    private final long ioTimeoutMillis;
+    private final long cpuTimeoutMillis;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    @Autowired
+    public AsyncExecutors(
+            @Value("${async.io.threads:64}") int ioThreads,
+            @Value("${async.io.queue-capacity:512}") int ioQueueCapacity,
+            @Value("${async.io.timeout-millis:10000}") long ioTimeoutMillis,
+            // 0 이면 코어 수
+            @Value("${async.cpu.threads:0}") int cpuThreads,
+            @Value("${async.cpu.queue-capacity:256}") int cpuQueueCapacity,
+            @Value("${async.cpu.timeout-millis:5000}") long cpuTimeoutMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this(virtualThreads ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-io-", 1).factory())
+                        : newExecutor("async-io", ioThreads, ioQueueCapacity),
+                newExecutor("async-cpu", cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors(), cpuQueueCapacity),
+                ioTimeoutMillis, cpuTimeoutMillis);
+        log.info("Async executors : io threads={}, cpu threads={}",
+                virtualThreads ? "virtual" : ioThreads, ((ThreadPoolExecutor) cpu).getMaximumPoolSize());
+    }
+
+    public AsyncExecutors(Executor io, Executor cpu, long ioTimeoutMillis, long cpuTimeoutMillis) {
+        this.io = io;
+        this.cpu = cpu;
+        this.ioTimeoutMillis = ioTimeoutMillis;
+        this.cpuTimeoutMillis = cpuTimeoutMillis;
+    }
+
+    public <T> CompletableFuture<T> io(Supplier<T> task) {
+        return submit(task, io, ioTimeoutMillis);
+    }
+
+    public <T> CompletableFuture<T> cpu(Supplier<T> task) {
+        return submit(task, cpu, cpuTimeoutMillis);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Executor executor, long timeoutMillis) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(propagate(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+        return future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (error instanceof TimeoutException) {
+                        timedOut.increment();
+                    }
+                });
+    }
+
+    // 요청 스레드의 ThreadLocal 을 작업 스레드에 옮기고, 끝나면 작업 스레드의 원래 값으로 되돌린다
+    private static <T> Supplier<T> propagate(Supplier<T> task) {
+        Trace trace = Tracer.current();
+        RequestSqlStats stats = RequestSqlStats.current();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            Trace previousTrace = Tracer.attach(trace);
+            RequestSqlStats previousStats = RequestSqlStats.attach(stats);
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                return task.get();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                RequestSqlStats.attach(previousStats);
+                Tracer.attach(previousTrace);
+            }
+        };
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        // 가상 스레드 io 는 풀이 없으므로 cpu 만 나온다
+        writer.type("async_executor_active_threads", "gauge", "작업 중인 스레드 수");
+        if (io instanceof ThreadPoolExecutor ioPool) {
+            writer.sample("async_executor_active_threads", "executor=\"io\"", ioPool.getActiveCount());
+        }
+        if (cpu instanceof ThreadPoolExecutor cpuPool) {
+            writer.sample("async_executor_active_threads", "executor=\"cpu\"", cpuPool.getActiveCount());
+        }
+        writer.type("async_executor_queue_size", "gauge", "실행을 기다리는 작업 수");
+        if (io instanceof ThreadPoolExecutor ioPool) {
+            writer.sample("async_executor_queue_size", "executor=\"io\"", ioPool.getQueue().size());
+        }
+        if (cpu instanceof ThreadPoolExecutor cpuPool) {
+            writer.sample("async_executor_queue_size", "executor=\"cpu\"", cpuPool.getQueue().size());
+        }
+        writer.counter("async_executor_rejected_total", "큐가 가득 차서 거절한 작업 수", rejected.sum())
+                .counter("async_executor_timeout_total", "timeout 을 넘긴 작업 수", timedOut.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (io instanceof ExecutorService ioService) {
+            ioService.shutdown();
+        }
+        if (cpu instanceof ExecutorService cpuService) {
+            cpuService.shutdown();
+        }
+    }
+
+    // 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절한다 (CallerRunsPolicy 는 Tomcat 스레드를 다시 붙잡는다)
+    private static ThreadPoolExecutor newExecutor(String name, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+// BusinessException 의 스택 트레이스 여부를 application.yml (또는 프로파일) 에서 정한다
+// 값은 JVM 전체의 정적 필드에 저장되므로 같은 JVM 의 다른 컨텍스트에도 적용된다 (BusinessException 참고)
+@Configuration
+public class ExceptionStackTraceConfig {
+
+    @Value("${expert.exception.stack-trace:false}")
+    private boolean stackTraceEnabled;
+
+    private boolean previous;
+
+    @PostConstruct
+    public void init() {
+        previous = BusinessException.setStackTraceEnabled(stackTraceEnabled);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        BusinessException.setStackTraceEnabled(previous);
+    }
+}
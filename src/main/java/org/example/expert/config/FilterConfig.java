@@ -2,23 +2,67 @@ package org.example.expert.config;
 
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.metrics.EndpointMetrics;
+import org.example.expert.metrics.EndpointMetricsFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtRejectionStats jwtRejectionStats;
+    private final EndpointMetrics endpointMetrics;
+
+    // JwtFilter 에서 거절된 요청까지 측정하도록 가장 먼저 실행합니다.
+    @Bean
+    public FilterRegistrationBean<EndpointMetricsFilter> endpointMetricsFilter() {
+        FilterRegistrationBean<EndpointMetricsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new EndpointMetricsFilter(endpointMetrics));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(1);
+
+        return registrationBean;
+    }
 
+    // metrics.scrape-token 을 설정하면 수집기는 ADMIN JWT 대신 "Bearer <scrape-token>" 으로 /internal/metrics 만 읽을 수 있습니다.
     @Bean
-    public FilterRegistrationBean<JwtFilter> jwtFilter() {
+    public FilterRegistrationBean<JwtFilter> jwtFilter(@Value("${metrics.scrape-token:}") String metricsScrapeToken) {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, jwtRejectionStats, metricsScrapeToken));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
         registrationBean.setOrder(2);
 
         return registrationBean;
     }
+
+    // JwtFilter 다음에 실행되어야 userId 기준으로 제한할 수 있습니다.
+    // /auth/** 는 인증이 없으므로 IP 기준, 그 외 POST 요청은 userId 기준으로 제한합니다.
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+            @Value("${rate-limit.auth.period-seconds:60}") long authPeriodSeconds,
+            @Value("${rate-limit.write.capacity:60}") int writeCapacity,
+            @Value("${rate-limit.write.period-seconds:60}") long writePeriodSeconds
+    ) {
+        List<RateLimiter> rateLimiters = List.of(
+                new RateLimiter("auth", "/auth", null, RateLimiter.KeyType.CLIENT_IP,
+                        authCapacity, authPeriodSeconds, TimeUnit.SECONDS),
+                new RateLimiter("write", "/", "POST", RateLimiter.KeyType.USER_ID,
+                        writeCapacity, writePeriodSeconds, TimeUnit.SECONDS)
+        );
+
+        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new RateLimitFilter(rateLimiters));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(3);
+
+        return registrationBean;
+    }
 }
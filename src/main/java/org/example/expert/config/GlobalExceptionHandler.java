@@ -1,44 +1,106 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    // 메시지 종류는 코드에 있는 문자열 수만큼이지만, 값이 섞인 메시지가 늘어나도 메모리가 무한히 늘지 않게 한다
+    private static final int MAX_CACHED_RESPONSES = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    // (status, message) 별로 직렬화가 끝난 응답을 재사용한다 (ResponseEntity 의 헤더는 읽기 전용)
+    private final Map<ErrorKey, ResponseEntity<byte[]>> errorResponses = new ConcurrentHashMap<>();
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+    public ResponseEntity<byte[]> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+    public ResponseEntity<byte[]> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         return getErrorResponse(status, ex.getMessage());
     }
 
-    public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
+    // 커넥션 풀에서 connection-timeout 안에 커넥션을 얻지 못한 요청 (풀이 동시 처리량의 상한이다)
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<byte[]> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 비동기 작업 큐 (AsyncExecutors) 가 가득 차서 작업을 받지 못한 요청
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<byte[]> handleRejectedExecutionException(RejectedExecutionException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 비동기 작업이 timeout 안에 끝나지 않은 요청 (AsyncExecutors, spring.mvc.async.request-timeout)
+    @ExceptionHandler({TimeoutException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<byte[]> handleTimeoutException(Exception ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, "처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public ResponseEntity<byte[]> getErrorResponse(HttpStatus status, String message) {
+        ErrorKey key = new ErrorKey(status, message);
+        ResponseEntity<byte[]> cached = errorResponses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResponseEntity<byte[]> errorResponse = createErrorResponse(status, message);
+        if (errorResponses.size() < MAX_CACHED_RESPONSES) {
+            errorResponses.putIfAbsent(key, errorResponse);
+        }
+        return errorResponse;
+    }
+
+    private ResponseEntity<byte[]> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
 
-        return new ResponseEntity<>(errorResponse, status);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            return new ResponseEntity<>(objectMapper.writeValueAsBytes(errorResponse), headers, status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 직렬화할 수 없습니다.", e);
+        }
     }
-}
 
+    private record ErrorKey(HttpStatus status, String message) {
+    }
+}
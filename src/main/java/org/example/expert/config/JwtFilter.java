@@ -9,16 +9,25 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtRejectionStats.Reason;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.jfr.event.JwtVerificationEvent;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
-@Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    private static final String METRICS_PATH = "/internal/metrics";
+
     private final JwtUtil jwtUtil;
+    // 거절 사유별 집계와 샘플링된 로그
+    private final JwtRejectionStats jwtRejectionStats;
+    // Prometheus 같은 수집기가 만료되는 ADMIN JWT 없이 /internal/metrics 를 읽을 때 쓰는 고정 토큰 (비어 있으면 사용하지 않음)
+    private final String metricsScrapeToken;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -41,16 +50,31 @@ public class JwtFilter implements Filter {
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
+            jwtRejectionStats.reject(Reason.MISSING_TOKEN, url, null);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
             return;
         }
 
-        String jwt = jwtUtil.substringToken(bearerJwt);
+        if (METRICS_PATH.equals(url) && isMetricsScrapeToken(bearerJwt)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String jwt;
+        try {
+            jwt = jwtUtil.substringToken(bearerJwt);
+        } catch (ServerException e) {
+            // "Bearer " 로 시작하지 않는 Authorization 헤더
+            jwtRejectionStats.reject(Reason.MALFORMED, url, e);
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "Bearer 형식의 JWT 토큰이 필요합니다.");
+            return;
+        }
 
         try {
             // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            Claims claims = extractClaims(jwt);
             if (claims == null) {
+                jwtRejectionStats.reject(Reason.INVALID, url, null);
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
@@ -61,9 +85,10 @@ public class JwtFilter implements Filter {
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
 
-            if (url.startsWith("/admin")) {
+            if (url.startsWith("/admin") || url.startsWith("/internal")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
                 if (!UserRole.ADMIN.equals(userRole)) {
+                    jwtRejectionStats.reject(Reason.FORBIDDEN, url, null);
                     httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                     return;
                 }
@@ -73,20 +98,45 @@ public class JwtFilter implements Filter {
 
             chain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            jwtRejectionStats.reject(Reason.INVALID_SIGNATURE, url, e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            jwtRejectionStats.reject(Reason.EXPIRED, url, e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            jwtRejectionStats.reject(Reason.UNSUPPORTED, url, e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
         } catch (Exception e) {
-            log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
+            jwtRejectionStats.reject(Reason.INVALID, url, e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
         }
     }
 
+    private boolean isMetricsScrapeToken(String bearerToken) {
+        if (metricsScrapeToken == null || metricsScrapeToken.isEmpty()) {
+            return false;
+        }
+        // 비교 시간으로 토큰을 추측할 수 없도록 길이와 상관없이 끝까지 비교한다
+        return MessageDigest.isEqual(("Bearer " + metricsScrapeToken).getBytes(StandardCharsets.UTF_8),
+                bearerToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Claims extractClaims(String jwt) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        Claims claims = null;
+        try {
+            claims = jwtUtil.extractClaims(jwt);
+            return claims;
+        } finally {
+            event.setValid(claims != null);
+            if (claims != null) {
+                event.setUserRole(claims.get("userRole"));
+            }
+            event.commitIfEnabled();
+        }
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
@@ -0,0 +1,102 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// JwtFilter 가 요청을 거절한 사유별 건수
+// 로그는 사유별로 interval 마다 최대 maxPerInterval 줄만 남기고 (스택 트레이스 없음),
+// 넘친 건수는 다음 interval 이 시작될 때 한 줄로 요약한다
+@Slf4j(topic = "JwtFilter")
+@Component
+public class JwtRejectionStats implements MetricsSource {
+
+    public enum Reason {
+        MISSING_TOKEN("JWT 토큰이 필요합니다."),
+        MALFORMED("Malformed Authorization header, Bearer 형식이 아닌 Authorization 헤더 입니다."),
+        INVALID_SIGNATURE("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다."),
+        EXPIRED("Expired JWT token, 만료된 JWT token 입니다."),
+        UNSUPPORTED("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다."),
+        INVALID("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다."),
+        FORBIDDEN("관리자 권한이 없습니다.");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+    }
+
+    @Value("${security.jwt-log.max-per-interval:10}")
+    private int maxPerInterval = 10;
+
+    @Value("${security.jwt-log.interval-seconds:60}")
+    private long intervalSeconds = 60;
+
+    private final Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+
+    public JwtRejectionStats() {
+        long now = System.nanoTime();
+        for (Reason reason : Reason.values()) {
+            counters.put(reason, new Counter(now));
+        }
+    }
+
+    public void reject(Reason reason, String uri, Exception e) {
+        Counter counter = counters.get(reason);
+        counter.total.increment();
+        if (counter.tryLog(reason, System.nanoTime())) {
+            log.warn("{} uri={}, cause={}", reason.description, uri, e == null ? null : e.toString());
+        }
+    }
+
+    public long count(Reason reason) {
+        return counters.get(reason).total.sum();
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.type("jwt_rejections_total", "counter", "JwtFilter 가 거절한 요청 수");
+        for (Map.Entry<Reason, Counter> entry : counters.entrySet()) {
+            writer.sample("jwt_rejections_total", "reason=\"" + entry.getKey().name().toLowerCase() + "\"",
+                    entry.getValue().total.sum());
+        }
+    }
+
+    private final class Counter {
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong windowStart;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Counter(long now) {
+            this.windowStart = new AtomicLong(now);
+        }
+
+        private boolean tryLog(Reason reason, long now) {
+            long start = windowStart.get();
+            if (now - start >= TimeUnit.SECONDS.toNanos(intervalSeconds) && windowStart.compareAndSet(start, now)) {
+                logged.set(0);
+                long suppressedCount = suppressed.sumThenReset();
+                if (suppressedCount > 0) {
+                    log.warn("{} 로그 {}건을 생략했습니다. (reason={}, interval={}s)",
+                            reason.description, suppressedCount, reason, intervalSeconds);
+                }
+            }
+            if (logged.incrementAndGet() <= maxPerInterval) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+    }
+}
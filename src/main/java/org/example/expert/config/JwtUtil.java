@@ -12,9 +12,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -22,16 +30,26 @@ public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String REFRESH_TOKEN_KEY_LABEL = "refresh-token";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private SecretKeySpec refreshTokenKey;
+    // Mac 은 thread-safe 하지 않으므로 빌려 쓰고 돌려놓는다
+    // 가상 스레드는 요청마다 새 스레드라 ThreadLocal 로는 재사용되지 않는다 (동시에 해싱하는 요청 수만큼만 만들어진다)
+    private final Queue<Mac> refreshTokenMacs = new ConcurrentLinkedQueue<>();
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // 액세스 토큰 서명 키를 그대로 쓰지 않고 용도별 키를 따로 유도한다 (HMAC(secret, "refresh-token"))
+        refreshTokenKey = new SecretKeySpec(deriveKey(bytes, REFRESH_TOKEN_KEY_LABEL), HMAC_ALGORITHM);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -48,6 +66,26 @@ public class JwtUtil {
                         .compact();
     }
 
+    // 리프레시 토큰은 JWT 가 아닌 임의의 값이며, 서버에는 HMAC 값만 저장한다
+    public String createRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String hashRefreshToken(String refreshToken) {
+        Mac mac = refreshTokenMacs.poll();
+        if (mac == null) {
+            mac = createMac();
+        }
+        try {
+            byte[] hash = mac.doFinal(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } finally {
+            refreshTokenMacs.offer(mac);
+        }
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -62,4 +100,24 @@ public class JwtUtil {
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    private static byte[] deriveKey(byte[] secret, String label) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return mac.doFinal(label.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("리프레시 토큰 키를 생성할 수 없습니다.");
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(refreshTokenKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("리프레시 토큰 해시를 생성할 수 없습니다.");
+        }
+    }
 }
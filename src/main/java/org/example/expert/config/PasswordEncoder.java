@@ -1,17 +1,149 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.jfr.event.PasswordHashEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Semaphore;
+
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_COST = 16;
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    // 해시 1회에 걸려야 하는 목표 시간(ms), 서버 성능에 맞춰 cost 를 자동으로 결정한다
+    @Value("${security.bcrypt.target-millis:250}")
+    private long targetMillis = 250;
+
+    // 0 보다 크면 측정 없이 해당 cost 를 그대로 사용한다 (테스트, 로컬 환경용)
+    @Value("${security.bcrypt.cost:0}")
+    private int fixedCost;
+
+    // 동시에 해싱할 수 있는 요청 수
+    // 0 이면 가상 스레드에서 해싱할 때만 코어 수의 절반으로 제한한다
+    // 가상 스레드는 CPU 를 오래 쓰는 해싱 중에 carrier 스레드를 놓지 않으므로, 제한이 없으면 다른 요청이 carrier 를 얻지 못한다
+    // 플랫폼 스레드 (signin, signup 의 async-cpu 풀) 는 풀 크기가 이미 동시 해싱 수를 제한하므로 세마포어를 거치지 않는다
+    @Value("${security.bcrypt.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile int cost = BCrypt.MIN_COST;
+    private Semaphore hashPermits;
+    // max-concurrent 를 직접 설정했으면 스레드 종류와 상관없이 제한한다
+    private boolean limitPlatformThreads;
+
+    @PostConstruct
+    public void init() {
+        cost = fixedCost > 0 ? fixedCost : calibrate(targetMillis);
+        int permits = maxConcurrent > 0 ? maxConcurrent
+                : virtualThreads ? Math.max(1, Runtime.getRuntime().availableProcessors() / 2) : 0;
+        hashPermits = permits > 0 ? new Semaphore(permits) : null;
+        limitPlatformThreads = maxConcurrent > 0;
+        log.info("bcrypt cost : {} (target {}ms), max concurrent : {}", cost, targetMillis, permits > 0 ? permits : "unlimited");
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        PasswordHashEvent event = new PasswordHashEvent("encode", cost);
+        event.begin();
+        boolean acquired = acquire();
+        try {
+            return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+        } finally {
+            release(acquired);
+            event.commitIfEnabled();
+        }
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        PasswordHashEvent event = new PasswordHashEvent("matches", extractCost(encodedPassword));
+        event.begin();
+        boolean acquired = acquire();
+        try {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        } finally {
+            release(acquired);
+            event.commitIfEnabled();
+        }
+    }
+
+    // 저장된 해시의 cost 가 현재 cost 와 다르면 로그인 성공 시 다시 해싱해야 한다
+    public boolean needsRehash(String encodedPassword) {
+        return extractCost(encodedPassword) != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // 가상 스레드라면 기다리는 동안 carrier 스레드를 놓아준다
+    private boolean acquire() {
+        if (hashPermits == null || !(limitPlatformThreads || Thread.currentThread().isVirtual())) {
+            return false;
+        }
+        hashPermits.acquireUninterruptibly();
+        return true;
+    }
+
+    private void release(boolean acquired) {
+        if (acquired) {
+            hashPermits.release();
+        }
+    }
+
+    // cost 를 1 올릴 때마다 해시 시간이 두 배가 되므로, 목표 시간을 넘기기 직전의 cost 를 찾는다
+    int calibrate(long targetMillis) {
+        long targetNanos = targetMillis * 1_000_000L;
+        int selected = BCrypt.MIN_COST;
+
+        // JIT 워밍업
+        measureNanos(BCrypt.MIN_COST);
+
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_COST; candidate++) {
+            long elapsed = measureNanos(candidate);
+            if (elapsed > targetNanos) {
+                break;
+            }
+            selected = candidate;
+            // 다음 cost 는 약 두 배가 걸리므로 목표를 넘을 것이 확실하다면 측정을 생략한다
+            if (elapsed * 2 > targetNanos) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private long measureNanos(int candidateCost) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidateCost, CALIBRATION_PASSWORD.toCharArray());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // bcrypt 해시 형식 : $2a$10$<salt+hash>
+    static int extractCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class RateLimitFilter implements Filter {
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private final List<RateLimiter> rateLimiters;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        RateLimiter rateLimiter = findRateLimiter(httpRequest.getMethod(), httpRequest.getRequestURI());
+        if (rateLimiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(resolveKey(rateLimiter, httpRequest), System.nanoTime());
+        if (waitNanos > 0) {
+            // 요청 한도를 초과한 경우 429와 다음 요청 가능 시점(초)을 반환합니다.
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            httpResponse.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            httpResponse.sendError(SC_TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private RateLimiter findRateLimiter(String method, String uri) {
+        for (RateLimiter rateLimiter : rateLimiters) {
+            if (rateLimiter.matches(method, uri)) {
+                return rateLimiter;
+            }
+        }
+        return null;
+    }
+
+    // JwtFilter 에서 set 한 userId 가 없으면(인증 없는 경로) IP 로 대신한다
+    private Object resolveKey(RateLimiter rateLimiter, HttpServletRequest request) {
+        if (rateLimiter.getKeyType() == RateLimiter.KeyType.USER_ID) {
+            Object userId = request.getAttribute("userId");
+            if (userId != null) {
+                return userId;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 하나의 라우트 규칙에 대한 토큰 버킷 모음
+// 키(IP 또는 userId)별 버킷은 ConcurrentHashMap(bin 단위 락 분할, 조회는 락 없음)에 저장하고
+// 버킷 자체는 GCRA 방식으로 AtomicLong 하나만 CAS 로 갱신한다
+public class RateLimiter {
+
+    public enum KeyType {
+        CLIENT_IP, USER_ID
+    }
+
+    @Getter
+    private final String name;
+    private final String pathPrefix;
+    private final String method; // null 이면 모든 메서드
+    @Getter
+    private final KeyType keyType;
+    private final long emissionIntervalNanos; // 토큰 1개가 채워지는 시간
+    private final long burstNanos;            // 버킷 용량만큼의 시간
+    private final long idleNanos;
+
+    private final ConcurrentHashMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(String name, String pathPrefix, String method, KeyType keyType,
+                       int capacity, long period, TimeUnit unit) {
+        if (capacity <= 0 || period <= 0) {
+            throw new IllegalArgumentException("capacity 와 period 는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.pathPrefix = pathPrefix;
+        this.method = method;
+        this.keyType = keyType;
+        this.emissionIntervalNanos = Math.max(1, unit.toNanos(period) / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        // 버킷이 가득 찬 뒤 한 주기 이상 요청이 없으면 제거 대상
+        this.idleNanos = Math.max(burstNanos, TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public boolean matches(String requestMethod, String uri) {
+        return matchesPath(uri) && (method == null || method.equalsIgnoreCase(requestMethod));
+    }
+
+    // 경로 세그먼트 단위로 비교한다 ("/auth" 는 /auth, /auth/signin 과 맞고 /authors 와는 맞지 않는다)
+    private boolean matchesPath(String uri) {
+        if (!uri.startsWith(pathPrefix)) {
+            return false;
+        }
+        return pathPrefix.endsWith("/") || uri.length() == pathPrefix.length() || uri.charAt(pathPrefix.length()) == '/';
+    }
+
+    // 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(ns)을 반환한다
+    public long tryAcquire(Object key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + emissionIntervalNanos;
+            long overflow = next - now - burstNanos;
+            if (overflow > 0) {
+                evictIdleIfDue(now);
+                return overflow;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                evictIdleIfDue(now);
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // 스케줄러 없이 요청 스레드 하나가 주기적으로 오래 쓰지 않은 버킷을 정리한다
+    private void evictIdleIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last < idleNanos || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> now - bucket.get() > idleNanos);
+    }
+}
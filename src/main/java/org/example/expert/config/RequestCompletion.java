@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletRequest;
+
+// 컨트롤러가 CompletableFuture 를 반환하면 필터 체인은 응답이 끝나기 전에 돌아온다
+// 필터에서 응답이 끝난 뒤에 할 일 (상태 코드, 응답 시간 기록) 은 여기에 넘긴다
+// 동기 요청이면 바로 실행하고, 비동기 요청이면 응답이 끝났을 때 (오류, timeout 포함) 컨테이너 스레드에서 실행한다
+public final class RequestCompletion {
+
+    private RequestCompletion() {
+    }
+
+    public static void whenComplete(ServletRequest request, Runnable callback) {
+        if (!request.isAsyncStarted()) {
+            callback.run();
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                callback.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+}
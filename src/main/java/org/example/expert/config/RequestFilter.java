@@ -3,26 +3,39 @@ package org.example.expert.config;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.util.List;
 
+// 요청 본문을 로그로 남겨야 하는 경로(기본값 /admin/)만 ContentCachingRequestWrapper 로 감싼다
+// 응답 본문은 LoggingAspect 가 반환 객체를 직접 직렬화하므로 감싸지 않는다 (응답 버퍼링, 복사 없음)
 @Component
 public class RequestFilter extends OncePerRequestFilter {
 
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // ContentCachingRequestWrapper와 ContentCachingResponseWrapper로 감싸기
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+    @Value("${request-capture.paths:/admin/}")
+    private List<String> capturePaths = List.of("/admin/");
 
-        try {
-            filterChain.doFilter(requestWrapper, responseWrapper);
-        } finally {
-            responseWrapper.copyBodyToResponse(); // 응답 본문을 다시 클라이언트에게 전달
+    // 캐시할 요청 본문의 최대 크기, 넘는 부분은 캐시하지 않고 로그에 잘림 표시만 남긴다
+    @Value("${request-capture.max-bytes:8192}")
+    private int maxBytes = 8192;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String capturePath : capturePaths) {
+            if (uri.startsWith(capturePath)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(new ContentCachingRequestWrapper(request, maxBytes), response);
     }
 }
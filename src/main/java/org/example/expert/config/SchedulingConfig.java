@@ -0,0 +1,10 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 요청 경로에서 뺀 주기 작업 (RefreshTokenPurger 등) 을 스프링 스케줄러 스레드에서 실행한다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+// 기동 시간 최적화 모드 (application-startup.yml)
+// spring.main.lazy-initialization 은 첫 요청에 필요한 bean (Hibernate, 컨트롤러, 서비스) 까지 미뤄서 첫 요청이 느려지므로
+// startup.lazy-beans 에 적은 bean 만 처음 사용할 때 만든다
+// 미룬 bean 을 다른 bean 이 주입받으면 그때 만들어지므로 주입하는 쪽은 @Lazy 로 받는다 (TodoService 의 WeatherClient)
+@Configuration
+@Profile("startup")
+public class StartupConfig {
+
+    // BeanFactoryPostProcessor 는 다른 bean 보다 먼저 만들어지므로 static 으로 등록한다
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("startup.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            for (String beanName : lazyBeans) {
+                // 이름을 바꾸고 목록을 고치지 않으면 조용히 효과가 사라지므로 기동을 멈춘다
+                if (!beanFactory.containsBeanDefinition(beanName)) {
+                    throw new IllegalStateException("startup.lazy-beans 에 없는 bean 이 있습니다 : " + beanName);
+                }
+                beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+            }
+        };
+    }
+}
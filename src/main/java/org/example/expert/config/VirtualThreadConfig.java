@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, application-virtual.yml)
+// Tomcat 요청 처리와 @Async 등은 Spring Boot 가 가상 스레드로 바꾸고, 여기서는 외부 호출 (WeatherClient) 을 맡는다
+// 동시 처리량은 스레드 수 대신 JDBC 커넥션 풀 (maximum-pool-size, connection-timeout) 로 제한한다
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // HttpURLConnection 대신 java.net.http.HttpClient 로 보내고 응답 처리도 가상 스레드에서 한다
+    // 느린 외부 API 가 요청을 무한정 붙잡지 않도록 시간 제한을 둔다
+    @Bean
+    public RestTemplateCustomizer virtualThreadRestTemplateCustomizer(
+            @Value("${weather.api.connect-timeout-millis:2000}") long connectTimeoutMillis,
+            @Value("${weather.api.read-timeout-millis:3000}") long readTimeoutMillis
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return restTemplate -> restTemplate.setRequestFactory(requestFactory);
+    }
+}
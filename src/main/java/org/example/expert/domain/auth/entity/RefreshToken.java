@@ -0,0 +1,49 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        // 만료되거나 교체된 토큰 정리 (RefreshTokenPurger)
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_rotated_at", columnList = "rotated_at")
+})
+public class RefreshToken extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash; // 토큰 원문은 저장하지 않고 HMAC-SHA256 값만 저장
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId; // 같은 로그인에서 교체되어 온 토큰들의 묶음
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    private LocalDateTime rotatedAt; // 새 토큰으로 교체된 시점, null 이면 아직 사용 가능
+
+    public RefreshToken(String tokenHash, String familyId, User user, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.auth.exception;
 
-public class AuthException extends RuntimeException {
+import org.example.expert.domain.common.exception.BusinessException;
+
+public class AuthException extends BusinessException {
 
     public AuthException(String message) {
         super(message);
@@ -5,28 +5,51 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
+import org.example.expert.domain.auth.entity.RefreshToken;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.CachedUser;
+import org.example.expert.domain.user.cache.EmailBloomFilter;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserDirectoryCache userDirectoryCache;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    // bcrypt 는 수십~수백 ms 걸리므로 트랜잭션 (커넥션) 밖에서 해싱하고, insert 만 짧은 쓰기 트랜잭션으로 묶는다
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 블룸 필터에 없는 이메일은 가입된 적이 없으므로 exists 쿼리를 생략한다
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -39,16 +62,33 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        SignupResponse signupResponse = transactionOperations.execute(status -> {
+            // 중복 여부의 최종 판단은 users.email 의 unique 제약조건이 한다
+            // (IDENTITY 전략이라 save 시점에 insert 가 실행되어 동시 가입 시 여기서 예외가 발생)
+            User savedUser;
+            try {
+                savedUser = userRepository.save(newUser);
+            } catch (DataIntegrityViolationException e) {
+                if (isEmailUniqueViolation(e)) {
+                    throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+                }
+                throw e;
+            }
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+            String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+            String refreshToken = issueRefreshToken(savedUser, UUID.randomUUID().toString());
+            return new SignupResponse(bearerToken, refreshToken);
+        });
+        emailBloomFilter.put(newUser.getEmail());
+        userDirectoryCache.evictByEmail(newUser.getEmail());
 
-        return new SignupResponse(bearerToken);
+        return signupResponse;
     }
 
-    @Transactional(readOnly = true)
+    // 유저 조회 (캐시 또는 읽기 전용 조회) 와 bcrypt 검증, 재해싱은 트랜잭션 밖에서 하고
+    // 재해싱한 비밀번호 저장과 리프레시 토큰 insert 만 짧은 쓰기 트랜잭션으로 묶는다
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+        CachedUser user = userDirectoryCache.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
@@ -56,8 +96,67 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 평문 비밀번호를 알고 있는 지금 다시 해싱한다
+        String rehashedPassword = passwordEncoder.needsRehash(user.getPassword())
+                ? passwordEncoder.encode(signinRequest.getPassword())
+                : null;
+
+        String refreshToken = transactionOperations.execute(status -> {
+            if (rehashedPassword != null) {
+                userRepository.findById(user.getId()).ifPresent(entity -> entity.changePassword(rehashedPassword));
+                userDirectoryCache.evict(user.getId());
+            }
+            return issueRefreshToken(userRepository.getReferenceById(user.getId()), UUID.randomUUID().toString());
+        });
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
-        return new SigninResponse(bearerToken);
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // bcrypt 검증 없이 인덱스 조회 1번과 HMAC 으로 액세스 토큰을 재발급한다
+    // 재사용 감지 시 토큰 계열을 폐기한 뒤 예외를 던지므로 AuthException 으로는 롤백하지 않는다
+    @Transactional(noRollbackFor = AuthException.class)
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        String tokenHash = jwtUtil.hashRefreshToken(tokenRefreshRequest.getRefreshToken());
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(tokenHash).orElseThrow(
+                () -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshToken.isExpired(now)) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+
+        // 이미 교체된 토큰이 다시 사용되었다면 탈취된 것으로 보고 같은 계열의 토큰을 모두 폐기한다
+        if (refreshToken.isRotated() || refreshTokenRepository.markRotated(refreshToken.getId(), now) == 0) {
+            refreshTokenRepository.deleteAllByFamilyId(refreshToken.getFamilyId());
+            throw new AuthException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        User user = refreshToken.getUser();
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String newRefreshToken = issueRefreshToken(user, refreshToken.getFamilyId());
+
+        return new TokenRefreshResponse(bearerToken, newRefreshToken);
+    }
+
+    // DB 가 알려준 제약조건 이름 (H2 는 "PUBLIC.UK_USERS_EMAIL_INDEX_4" 처럼 접두어와 접미어가 붙는다) 으로 이메일 중복만 골라낸다
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    private String issueRefreshToken(User user, String familyId) {
+        String refreshToken = jwtUtil.createRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(
+                jwtUtil.hashRefreshToken(refreshToken),
+                familyId,
+                user,
+                LocalDateTime.now().plus(REFRESH_TOKEN_TTL)
+        ));
+        return refreshToken;
     }
 }
@@ -0,0 +1,50 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 더 이상 쓸 수 없는 리프레시 토큰 행을 지운다
+//   만료된 토큰 : expiresAt 이 지난 행
+//   교체된 토큰 : 재사용 감지 기간 (reuse-window) 이 지난 행, 그 뒤에 재사용되면 재사용 감지 대신 유효하지 않은 토큰으로 거절된다
+// 토큰 교체 요청의 트랜잭션에 DELETE 를 더하지 않도록 스케줄러 스레드에서 주기적으로 (interval) 지운다
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration reuseWindow;
+
+    public RefreshTokenPurger(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${auth.refresh-token.reuse-window-hours:24}") long reuseWindowHours
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.reuseWindow = Duration.ofHours(reuseWindowHours);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-seconds:60}",
+            initialDelayString = "${auth.refresh-token.purge-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    @Transactional
+    public void purge() {
+        purge(LocalDateTime.now());
+    }
+
+    // 지운 행 수, 호출하는 쪽의 트랜잭션 안에서 실행한다
+    public int purge(LocalDateTime now) {
+        int expired = refreshTokenRepository.deleteExpired(now);
+        int rotated = refreshTokenRepository.deleteRotatedBefore(now.minus(reuseWindow));
+        if (expired + rotated > 0) {
+            log.info("Purged refresh tokens : expired={}, rotated={}", expired, rotated);
+        }
+        return expired + rotated;
+    }
+}
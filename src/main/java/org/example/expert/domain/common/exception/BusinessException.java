@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.exception;
+
+// 예상된 비즈니스 오류(잘못된 요청, 인증 실패 등, 4xx)의 공통 부모
+// 응답 메시지만 필요하므로 스택 트레이스를 채우지 않는다 (5xx 인 ServerException 은 스택 트레이스를 남긴다)
+// 디버깅이 필요하면 expert.exception.stack-trace=true 로 스택 트레이스를 다시 남긴다 (ExceptionStackTraceConfig)
+public abstract class BusinessException extends RuntimeException {
+
+    // 예외는 bean 이 아닌 곳에서 new 로 만들어지므로 설정 값을 정적 필드에 옮겨 둔다
+    // JVM 전체에서 하나의 값이므로 한 JVM 에 ApplicationContext 가 여럿이면 (테스트 컨텍스트 캐시 등) 마지막에 시작한 컨텍스트의 값이 적용된다
+    // 닫히는 컨텍스트는 시작 전 값으로 되돌린다 (ExceptionStackTraceConfig)
+    private static volatile boolean stackTraceEnabled;
+
+    protected BusinessException(String message) {
+        super(message, null, false, stackTraceEnabled);
+    }
+
+    // 이전 값
+    public static boolean setStackTraceEnabled(boolean enabled) {
+        boolean previous = stackTraceEnabled;
+        stackTraceEnabled = enabled;
+        return previous;
+    }
+}
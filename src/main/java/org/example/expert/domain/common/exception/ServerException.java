@@ -1,5 +1,6 @@
 package org.example.expert.domain.common.exception;
 
+// 외부 API 실패 등 실제 서버 오류 (5xx) 이므로 원인을 추적할 수 있도록 BusinessException 과 달리 스택 트레이스를 남긴다
 public class ServerException extends RuntimeException {
 
     public ServerException(String message) {
@@ -9,7 +9,8 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 일정별 담당자 목록 (todo_id) 과 중복 등록 확인 (todo_id, user_id) 을 한 인덱스로 처리한다
+@Table(name = "managers", indexes = @Index(name = "idx_managers_todo_id_user_id", columnList = "todo_id, user_id"))
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
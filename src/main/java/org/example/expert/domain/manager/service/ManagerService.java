@@ -10,6 +10,8 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.cache.CachedUser;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -27,11 +29,12 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final UserDirectoryCache userDirectoryCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
-        User user = userRepository.findById(authUser.getId())
+        CachedUser user = userDirectoryCache.findById(authUser.getId())
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -41,7 +44,7 @@ public class ManagerService {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+        CachedUser managerUser = userDirectoryCache.findById(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
         //담당자 중복여부도 체크해야 함
@@ -49,7 +52,8 @@ public class ManagerService {
             throw new InvalidRequestException("이미 등록된 담당자 입니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 존재 여부는 캐시로 확인했으므로 select 없이 프록시로 연관관계만 맺는다
+        Manager newManagerUser = new Manager(userRepository.getReferenceById(managerUser.getId()), todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
@@ -78,7 +82,7 @@ public class ManagerService {
 
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
+        CachedUser user = userDirectoryCache.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         Todo todo = todoRepository.findById(todoId)
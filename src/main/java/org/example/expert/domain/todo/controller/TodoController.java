@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.AsyncExecutors;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
@@ -14,19 +15,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Validated
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final AsyncExecutors asyncExecutors;
 
+    // 날씨 API 호출과 insert 를 기다리는 동안 Tomcat 스레드를 붙잡지 않는다
     @PostMapping("/todos")
-    public ResponseEntity<TodoSaveResponse> saveTodo(
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodo(
             @Auth AuthUser authUser,
             @Valid @RequestBody TodoSaveRequest todoSaveRequest
     ) {
-        return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
+        return asyncExecutors.io(() -> ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest)));
     }
 
     //1. 개떡같이 입력해도 찰떡같이 알아들는 서버가될것이냐 Math.max()
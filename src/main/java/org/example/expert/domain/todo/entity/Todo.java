@@ -14,7 +14,8 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+// 목록은 수정일 내림차순으로만 조회하므로 같은 방향의 인덱스로 정렬 없이 읽는다
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at", columnList = "modified_at DESC"))
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
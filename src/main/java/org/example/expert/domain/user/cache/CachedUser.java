@@ -0,0 +1,27 @@
+package org.example.expert.domain.user.cache;
+
+import lombok.Getter;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+
+// 캐시에 보관하는 users 의 읽기 전용 스냅샷
+// 비밀번호는 평문이 아닌 bcrypt 해시만 보관하며 signin 검증에만 사용한다
+@Getter
+public class CachedUser {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    private final String password;
+
+    public CachedUser(Long id, String email, UserRole userRole, String password) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+        this.password = password;
+    }
+
+    public static CachedUser from(User user) {
+        return new CachedUser(user.getId(), user.getEmail(), user.getUserRole(), user.getPassword());
+    }
+}
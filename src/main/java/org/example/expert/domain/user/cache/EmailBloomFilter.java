@@ -0,0 +1,128 @@
+package org.example.expert.domain.user.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 가입된 이메일의 블룸 필터
+// mightContain 이 false 면 확실히 가입되지 않은 이메일이므로 exists 쿼리를 생략할 수 있다
+// true 는 오탐일 수 있으므로 DB 로 한 번 더 확인해야 한다
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final UserRepository userRepository;
+
+    @Value("${signup.bloom-filter.expected-emails:1000000}")
+    private int expectedEmails = 1_000_000;
+
+    @Value("${signup.bloom-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    @Value("${signup.bloom-filter.warm-up-batch-size:10000}")
+    private int warmUpBatchSize = 10_000;
+
+    private volatile AtomicLongArray bits = new AtomicLongArray(1);
+    private volatile long bitSize = 64;
+    private volatile int hashCount = 1;
+
+    // 웹 서버가 요청을 받기 전에 채워두어야 가입 직후의 중복 가입도 걸러낼 수 있다
+    // 유저 수로 크기를 정한 뒤 이메일을 batch 크기만큼 keyset 페이징으로 읽어서 넣는다
+    @PostConstruct
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        long users = userRepository.count();
+        init((int) Math.min(Integer.MAX_VALUE, Math.max(expectedEmails, users * 2)), falsePositiveRate);
+
+        long loaded = 0;
+        String after = "";
+        List<String> emails;
+        do {
+            emails = userRepository.findEmailsAfter(after, PageRequest.of(0, warmUpBatchSize));
+            for (String email : emails) {
+                put(email);
+            }
+            loaded += emails.size();
+            if (!emails.isEmpty()) {
+                after = emails.get(emails.size() - 1);
+            }
+        } while (emails.size() == warmUpBatchSize);
+
+        log.info("email bloom filter warmed : {} emails, {} bits, {} hashes, {}ms",
+                loaded, bitSize, hashCount, System.currentTimeMillis() - start);
+    }
+
+    void init(int expectedInsertions, double fpp) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (LN2 * LN2));
+        size = Math.max(64, (size + 63) / 64 * 64);
+        hashCount = Math.max(1, (int) Math.round((double) size / expectedInsertions * LN2));
+        bitSize = size;
+        bits = new AtomicLongArray((int) (size / 64));
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 맞춰 해싱한다
+    private static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long h = 0xcbf29ce484222325L; // FNV-1a 64
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // murmur3 fmix64 로 비트를 고르게 섞는다
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.expert.domain.user.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// users 조회용 read-through 캐시 (id, email 두 개의 인덱스)
+// 크기를 넘으면 사용 빈도가 낮은 엔트리부터 제거하고, 제거할 때마다 빈도를 절반으로 줄여 오래된 인기 엔트리가 남지 않게 한다
+@Component
+@RequiredArgsConstructor
+public class UserDirectoryCache implements MetricsSource {
+
+    // ConcurrentHashMap 노드 2개, Long 키, Entry, CachedUser, String 헤더 등의 대략적인 크기
+    private static final long ENTRY_OVERHEAD_BYTES = 280;
+
+    private final UserRepository userRepository;
+
+    @Value("${user-cache.max-size:10000}")
+    private int maxSize = 10_000;
+
+    private final ConcurrentHashMap<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> idByEmail = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가, 로딩 중에 무효화가 일어났다면 로딩한 값을 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public Optional<CachedUser> findById(long userId) {
+        Entry entry = byId.get(userId);
+        if (entry != null) {
+            entry.touch();
+            hits.increment();
+            return Optional.of(entry.user);
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        Optional<CachedUser> loaded = userRepository.findById(userId).map(CachedUser::from);
+        loaded.ifPresent(user -> put(user, loadGeneration));
+        return loaded;
+    }
+
+    public Optional<CachedUser> findByEmail(String email) {
+        Long userId = idByEmail.get(email);
+        Entry entry = userId == null ? null : byId.get(userId);
+        if (entry != null && entry.user.getEmail().equals(email)) {
+            entry.touch();
+            hits.increment();
+            return Optional.of(entry.user);
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        Optional<CachedUser> loaded = userRepository.findByEmail(email).map(CachedUser::from);
+        loaded.ifPresent(user -> put(user, loadGeneration));
+        return loaded;
+    }
+
+    // 트랜잭션 안이라면 커밋 이전에 다른 스레드가 옛 값을 다시 적재할 수 있으므로 커밋 후에 한 번 더 제거한다
+    public void evict(long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    public void evictByEmail(String email) {
+        Long userId = idByEmail.get(email);
+        if (userId != null) {
+            evict(userId);
+        } else {
+            generation.incrementAndGet();
+        }
+    }
+
+    public UserCacheStatsResponse stats() {
+        long estimatedBytes = 0;
+        for (Entry entry : byId.values()) {
+            estimatedBytes += ENTRY_OVERHEAD_BYTES + (entry.user.getEmail() == null ? 0 : entry.user.getEmail().length())
+                    + (entry.user.getPassword() == null ? 0 : entry.user.getPassword().length());
+        }
+        return new UserCacheStatsResponse(byId.size(), maxSize, hits.sum(), misses.sum(), evictions.sum(), estimatedBytes);
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.gauge("user_cache_size", "유저 캐시 엔트리 수", byId.size())
+                .counter("user_cache_hits_total", "유저 캐시 적중 수", hits.sum())
+                .counter("user_cache_misses_total", "유저 캐시 미스 수", misses.sum())
+                .counter("user_cache_evictions_total", "유저 캐시 제거 수", evictions.sum());
+    }
+
+    private void put(CachedUser user, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        Entry previous = byId.put(user.getId(), new Entry(user));
+        if (previous != null && !Objects.equals(previous.user.getEmail(), user.getEmail())) {
+            removeEmailIndex(previous.user.getEmail(), user.getId());
+        }
+        // 이메일 없이 id 만 채운 유저 (AuthUser 로 만든 참조 등) 는 id 로만 찾을 수 있다
+        if (user.getEmail() != null) {
+            idByEmail.put(user.getEmail(), user.getId());
+        }
+
+        // put 도중에 무효화가 일어났다면 방금 넣은 값을 되돌린다
+        if (generation.get() != loadGeneration) {
+            remove(user.getId());
+            return;
+        }
+        if (byId.size() > maxSize) {
+            evictLeastFrequentlyUsed();
+        }
+    }
+
+    private void remove(long userId) {
+        generation.incrementAndGet();
+        Entry removed = byId.remove(userId);
+        if (removed != null) {
+            removeEmailIndex(removed.user.getEmail(), userId);
+        }
+    }
+
+    private void removeEmailIndex(String email, long userId) {
+        if (email != null) {
+            idByEmail.remove(email, userId);
+        }
+    }
+
+    // 한 번에 10% 를 비워 정렬 비용을 여러 번의 put 으로 나눈다
+    private void evictLeastFrequentlyUsed() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int overflow = byId.size() - maxSize;
+            if (overflow <= 0) {
+                return;
+            }
+            int target = overflow + maxSize / 10;
+
+            // 정렬 도중 빈도가 바뀌지 않도록 스냅샷을 떠서 정렬한다
+            List<Candidate> candidates = new ArrayList<>(byId.size());
+            for (Map.Entry<Long, Entry> e : byId.entrySet()) {
+                candidates.add(new Candidate(e.getKey(), e.getValue(), e.getValue().frequency));
+            }
+            candidates.sort(Comparator.comparingInt(Candidate::frequency));
+            for (int i = 0; i < target && i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                if (byId.remove(candidate.userId(), candidate.entry())) {
+                    removeEmailIndex(candidate.entry().user.getEmail(), candidate.userId());
+                    evictions.increment();
+                }
+            }
+            for (Entry entry : byId.values()) {
+                entry.frequency >>>= 1;
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record Candidate(Long userId, Entry entry, int frequency) {
+    }
+
+    private static final class Entry {
+        private final CachedUser user;
+        // 대략적인 사용 빈도, 동시 증가 시 일부 유실되어도 무방하다
+        private int frequency = 1;
+
+        private Entry(CachedUser user) {
+            this.user = user;
+        }
+
+        private void touch() {
+            if (frequency < Integer.MAX_VALUE) {
+                frequency++;
+            }
+        }
+    }
+}
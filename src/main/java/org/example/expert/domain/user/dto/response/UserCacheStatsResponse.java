@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserCacheStatsResponse {
+
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final double hitRate;
+    private final long evictions;
+    private final long estimatedBytes;
+
+    public UserCacheStatsResponse(int size, int maxSize, long hits, long misses, long evictions, long estimatedBytes) {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        this.evictions = evictions;
+        this.estimatedBytes = estimatedBytes;
+    }
+}
@@ -10,12 +10,14 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class User extends Timestamped {
 
+    // 가입 시 unique 제약조건 위반이 이메일 중복인지 구분할 때 쓴다 (AuthService)
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
@@ -1,11 +1,19 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 이메일 unique 인덱스 순서로 after 다음 이메일부터 한 페이지씩 읽는다 (전체를 한 번에 메모리에 올리지 않는다)
+    @Query("SELECT u.email FROM User u WHERE u.email > :after ORDER BY u.email")
+    List<String> findEmailsAfter(@Param("after") String after, Pageable pageable);
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -14,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserDirectoryCache userDirectoryCache;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
@@ -23,5 +28,12 @@ public class UserAdminService {
             throw new InvalidRequestException("기존과 동일한 권한으로 변경할수없습니다.");
         }
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userDirectoryCache.evict(userId);
+        // 이전 권한으로 로그인한 세션이 리프레시 토큰으로 계속 유지되지 않도록 다시 로그인하게 한다
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    public UserCacheStatsResponse getCacheStats() {
+        return userDirectoryCache.stats();
     }
 }
@@ -0,0 +1,23 @@
+package org.example.expert.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.jdbc.dto.ConnectionHoldResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ConnectionHoldController {
+
+    private final ConnectionHoldProfiler connectionHoldProfiler;
+
+    // 커넥션을 오래 점유한 @Transactional 메서드 순위
+    @GetMapping("/admin/db/connections")
+    public ResponseEntity<List<ConnectionHoldResponse>> getTopOffenders(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(connectionHoldProfiler.topOffenders(limit));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 커넥션 획득 대기 시간과 반납까지의 점유 시간을 ConnectionHoldProfiler 에 기록하는 DataSource
+public class ConnectionHoldDataSource extends DelegatingDataSource {
+
+    private final ConnectionHoldProfiler profiler;
+
+    public ConnectionHoldDataSource(DataSource targetDataSource, ConnectionHoldProfiler profiler) {
+        super(targetDataSource);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return track(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return track(connection, start);
+    }
+
+    private Connection track(Connection connection, long start) {
+        long acquiredAt = System.nanoTime();
+        profiler.acquired();
+        Holder holder = new Holder(start, acquiredAt);
+        return (Connection) Proxy.newProxyInstance(ConnectionHoldDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            holder.release(profiler);
+                            break;
+                        default:
+                            // 트랜잭션 이름은 커넥션을 빌린 뒤에 설정되므로 처음 사용할 때 기록한다
+                            holder.captureOwner();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private static final class Holder {
+        private final long requestedAt;
+        private final long acquiredAt;
+        private String owner;
+        private boolean released;
+
+        private Holder(long requestedAt, long acquiredAt) {
+            this.requestedAt = requestedAt;
+            this.acquiredAt = acquiredAt;
+        }
+
+        private void captureOwner() {
+            if (owner == null) {
+                owner = TransactionSynchronizationManager.getCurrentTransactionName();
+            }
+        }
+
+        private void release(ConnectionHoldProfiler profiler) {
+            if (released) {
+                return;
+            }
+            released = true;
+            captureOwner();
+            profiler.released(owner, acquiredAt - requestedAt, System.nanoTime() - acquiredAt);
+        }
+    }
+}
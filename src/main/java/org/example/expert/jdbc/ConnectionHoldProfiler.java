@@ -0,0 +1,134 @@
+package org.example.expert.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.jdbc.dto.ConnectionHoldResponse;
+import org.example.expert.metrics.LatencyHistogram;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 커넥션을 빌린 @Transactional 메서드별로 획득 대기 시간과 점유 시간을 모은다
+// 점유 시간이 slowHoldMillis 를 넘으면 반납 시점의 애플리케이션 스택을 요약해 남긴다
+@Slf4j(topic = "ConnectionHoldProfiler")
+@Component
+public class ConnectionHoldProfiler implements MetricsSource {
+
+    // 트랜잭션 밖에서 빌린 커넥션 (open-in-view, 시작 시 워밍업 등)
+    static final String NO_TRANSACTION = "(no transaction)";
+    private static final int STACK_DEPTH = 8;
+    private static final String APPLICATION_PACKAGE = "org.example.expert";
+    private static final String PROFILER_PACKAGE = "org.example.expert.jdbc";
+
+    @Value("${db-profiler.slow-hold-millis:200}")
+    private long slowHoldMillis = 200;
+
+    private final ConcurrentHashMap<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final AtomicInteger held = new AtomicInteger();
+    private final AtomicInteger peakHeld = new AtomicInteger();
+
+    void acquired() {
+        int current = held.incrementAndGet();
+        peakHeld.accumulateAndGet(current, Math::max);
+    }
+
+    void released(String owner, long acquireNanos, long holdNanos) {
+        held.decrementAndGet();
+        String method = owner == null ? NO_TRANSACTION : owner;
+        MethodStats stats = methods.get(method);
+        if (stats == null) {
+            stats = methods.computeIfAbsent(method, key -> new MethodStats());
+        }
+        stats.acquire.record(acquireNanos);
+        stats.hold.record(holdNanos);
+        stats.maxHold.accumulate(holdNanos);
+
+        if (holdNanos >= TimeUnit.MILLISECONDS.toNanos(slowHoldMillis)) {
+            stats.slow.increment();
+            String stack = stackSummary();
+            stats.lastSlowStack = stack;
+            log.warn("커넥션을 {}ms 동안 점유했습니다. method={}, stack={}",
+                    TimeUnit.NANOSECONDS.toMillis(holdNanos), method, stack);
+        }
+    }
+
+    // 총 점유 시간이 긴 순서대로 limit 개
+    public List<ConnectionHoldResponse> topOffenders(int limit) {
+        return methods.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingDouble(ConnectionHoldResponse::getTotalHoldMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public int getHeld() {
+        return held.get();
+    }
+
+    public int getPeakHeld() {
+        return peakHeld.get();
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.gauge("db_connections_held", "현재 점유 중인 커넥션 수", held.get())
+                .gauge("db_connections_held_peak", "동시에 점유한 커넥션 수의 최대값 (풀 크기 산정용)", peakHeld.get());
+        writer.type("db_connection_hold_slow_total", "counter", "점유 시간이 임계값을 넘은 커넥션 수");
+        methods.forEach((method, stats) ->
+                writer.sample("db_connection_hold_slow_total", "method=\"" + method + "\"", stats.slow.sum()));
+    }
+
+    // 반납 시점의 애플리케이션 프레임 (프로파일러 자신 제외)
+    private static String stackSummary() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(PROFILER_PACKAGE))
+                .limit(STACK_DEPTH)
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- ")));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static final class MethodStats {
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram hold = new LatencyHistogram();
+        private final LongAccumulator maxHold = new LongAccumulator(Math::max, 0);
+        private final LongAdder slow = new LongAdder();
+        private volatile String lastSlowStack;
+
+        private ConnectionHoldResponse toResponse(String method) {
+            long[] holds = hold.snapshot();
+            long count = 0;
+            for (long bucket : holds) {
+                count += bucket;
+            }
+            return new ConnectionHoldResponse(
+                    method,
+                    count,
+                    toMillis(hold.sumNanos()),
+                    count == 0 ? 0 : toMillis(acquire.sumNanos()) / count,
+                    count == 0 ? 0 : toMillis(hold.sumNanos()) / count,
+                    toMillis(hold.valueAtPercentile(99)),
+                    toMillis(maxHold.get()),
+                    slow.sum(),
+                    lastSlowStack
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
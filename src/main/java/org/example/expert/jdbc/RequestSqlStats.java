@@ -0,0 +1,109 @@
+package org.example.expert.jdbc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 요청 하나에서 실행된 SQL 의 개수, 읽거나 변경한 row 수, DB 시간
+// 한 번에 한 스레드만 쓰므로 동기화하지 않는다 (SqlStatsFilter 가 시작과 끝을 관리)
+// 비동기 요청은 작업 스레드가 이어서 쓰고 (AsyncExecutors), 작업 제출과 완료가 스레드 사이의 순서를 보장한다
+public class RequestSqlStats {
+
+    // 요청이 끝난 뒤에도 통계를 볼 수 있도록 SqlStatsFilter 가 요청 속성에 남긴다
+    public static final String ATTRIBUTE = RequestSqlStats.class.getName();
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+    // in (?, ?, ?) 처럼 바인딩 개수만 다른 쿼리를 같은 모양으로 본다
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)+\\)");
+
+    // "GET /todos" 형식, 느린 쿼리 로그에 남긴다
+    private final String endpoint;
+    private int prepared;
+    private int statements;
+    private long rows;
+    private long dbNanos;
+    private Map<String, Integer> shapes;
+
+    private RequestSqlStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static RequestSqlStats begin() {
+        return begin(null);
+    }
+
+    public static RequestSqlStats begin(String endpoint) {
+        RequestSqlStats stats = new RequestSqlStats(endpoint);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // 비동기 작업 스레드에서 요청의 통계를 이어서 쓴다, 이전 값을 돌려준다
+    public static RequestSqlStats attach(RequestSqlStats stats) {
+        RequestSqlStats previous = CURRENT.get();
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+        return previous;
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    // Hibernate 가 statement 를 준비할 때 (SqlStatementInspector)
+    void prepared(String sql) {
+        if (shapes == null) {
+            shapes = new HashMap<>();
+        }
+        shapes.merge(normalize(sql), 1, Integer::sum);
+        prepared++;
+    }
+
+    // JDBC statement 실행이 끝났을 때 (SqlStatsDataSource)
+    void executed(long nanos) {
+        statements++;
+        dbNanos += nanos;
+    }
+
+    void rows(long count) {
+        rows += count;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    // JDBC 프록시 (sql-stats.jdbc.enabled) 가 꺼져 있으면 Hibernate 가 준비한 statement 수를 쓴다
+    // 켜져 있으면 Hibernate 밖에서 실행한 statement 까지 센 실행 횟수가 더 크다
+    public int getStatements() {
+        return Math.max(statements, prepared);
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return shapes == null ? Collections.emptyMap() : shapes;
+    }
+
+    static String normalize(String sql) {
+        String shape = sql.trim();
+        if (shape.indexOf('?') < 0 || shape.indexOf(',') < 0) {
+            return shape;
+        }
+        return IN_LIST.matcher(shape).replaceAll("(?...)");
+    }
+}
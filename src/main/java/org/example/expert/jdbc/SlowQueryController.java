@@ -0,0 +1,23 @@
+package org.example.expert.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.jdbc.dto.SlowQueryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SlowQueryController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    // 최근 느린 쿼리 (최신순)
+    @GetMapping("/admin/db/slow-queries")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(slowQueryLog.recent(limit));
+    }
+}
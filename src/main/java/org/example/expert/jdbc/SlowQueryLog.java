@@ -0,0 +1,183 @@
+package org.example.expert.jdbc;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.jdbc.dto.SlowQueryResponse;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// threshold 를 넘은 쿼리를 샘플링해서 남기는 느린 쿼리 로그
+// 요청 스레드에서는 SQL, 파라미터, 호출한 서비스 메서드만 잡아두고
+// 정규화, 마스킹, 로그 출력은 전용 스레드에서 한다 (큐가 가득 차면 버린다)
+@Slf4j(topic = "SlowQueryLog")
+@Component
+public class SlowQueryLog implements MetricsSource {
+
+    private static final String APPLICATION_PACKAGE = "org.example.expert";
+    private static final String DOMAIN_PACKAGE = "org.example.expert.domain";
+    private static final String PROFILER_PACKAGE = "org.example.expert.jdbc";
+    private static final int QUEUE_CAPACITY = 1024;
+
+    @Value("${slow-query.threshold-millis:100}")
+    private long thresholdMillis = 100;
+
+    // 0 ~ 1, 느린 쿼리 중 기록할 비율
+    @Value("${slow-query.sample-rate:1.0}")
+    private double sampleRate = 1.0;
+
+    // 관리자 API 로 조회할 수 있는 최근 기록 수
+    @Value("${slow-query.capacity:200}")
+    private int capacity = 200;
+
+    @Value("${slow-query.max-parameter-length:100}")
+    private int maxParameterLength = 100;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "slow-query-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Deque<SlowQueryResponse> recent = new ArrayDeque<>();
+    // 관리자 요청이 가상 스레드에서 실행되어도 carrier 스레드에 고정되지 않도록 synchronized 대신 사용한다
+    private final ReentrantLock recentLock = new ReentrantLock();
+    private final LongAdder slowQueries = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    // 샘플링에서 빠지면 null
+    Pending capture(String sql, Object[] parameters, long elapsedNanos, RequestSqlStats stats) {
+        slowQueries.increment();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        return new Pending(System.currentTimeMillis(), stats == null ? null : stats.getEndpoint(), caller(),
+                sql, parameters, elapsedNanos);
+    }
+
+    void submit(Pending pending, long rows) {
+        if (pending.submitted) {
+            return;
+        }
+        pending.submitted = true;
+        try {
+            executor.execute(() -> record(pending, rows));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    public List<SlowQueryResponse> recent(int limit) {
+        List<SlowQueryResponse> result = new ArrayList<>(Math.min(limit, capacity));
+        recentLock.lock();
+        try {
+            Iterator<SlowQueryResponse> iterator = recent.descendingIterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                result.add(iterator.next());
+            }
+        } finally {
+            recentLock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.counter("db_slow_queries_total", "threshold 를 넘은 쿼리 수", slowQueries.sum())
+                .counter("db_slow_queries_dropped_total", "큐가 가득 차 기록하지 못한 느린 쿼리 수", dropped.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void record(Pending pending, long rows) {
+        boolean[] masked = SqlParameterMasker.maskedParameters(pending.sql, pending.parameters.length);
+        List<String> parameters = new ArrayList<>(pending.parameters.length);
+        for (int i = 0; i < pending.parameters.length; i++) {
+            parameters.add(masked[i] ? SqlParameterMasker.MASK : format(pending.parameters[i]));
+        }
+        String sql = pending.sql == null ? null : RequestSqlStats.normalize(pending.sql);
+        SlowQueryResponse slowQuery = new SlowQueryResponse(pending.timestamp, pending.endpoint, pending.caller,
+                sql, parameters, rows, pending.elapsedNanos / 1_000_000.0);
+
+        recentLock.lock();
+        try {
+            recent.addLast(slowQuery);
+            while (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+        } finally {
+            recentLock.unlock();
+        }
+        log.warn("느린 쿼리 {}ms, rows={}, endpoint={}, caller={}, sql={}, parameters={}",
+                slowQuery.getElapsedMillis(), rows, pending.endpoint, pending.caller, sql, parameters);
+    }
+
+    private String format(Object parameter) {
+        if (parameter == null) {
+            return "null";
+        }
+        String value = parameter.toString();
+        return value.length() > maxParameterLength ? value.substring(0, maxParameterLength) + "..." : value;
+    }
+
+    // 가장 가까운 *Service 메서드, 없으면 가장 가까운 애플리케이션 메서드 (TodoService.getTodos)
+    private static String caller() {
+        List<StackWalker.StackFrame> frames = StackWalker.getInstance().walk(stream -> stream
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(PROFILER_PACKAGE))
+                .toList());
+        Optional<StackWalker.StackFrame> service = frames.stream()
+                .filter(frame -> frame.getClassName().startsWith(DOMAIN_PACKAGE) && frame.getClassName().endsWith("Service"))
+                .findFirst();
+        return service.or(() -> frames.stream().findFirst())
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(null);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    static final class Pending {
+        private final long timestamp;
+        private final String endpoint;
+        private final String caller;
+        private final String sql;
+        private final Object[] parameters;
+        private final long elapsedNanos;
+        // ResultSet 과 statement 양쪽에서 닫힐 수 있으므로 한 번만 넘긴다 (같은 스레드에서만 접근)
+        private boolean submitted;
+
+        private Pending(long timestamp, String endpoint, String caller, String sql, Object[] parameters, long elapsedNanos) {
+            this.timestamp = timestamp;
+            this.endpoint = endpoint;
+            this.caller = caller;
+            this.sql = sql;
+            this.parameters = parameters;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 느린 쿼리 로그에 남기면 안 되는 파라미터(password 컬럼)의 위치를 찾는다
+// insert 의 컬럼 목록과 "password = ?" 형태의 조건/대입을 처리한다
+final class SqlParameterMasker {
+
+    static final String MASK = "****";
+    private static final String SENSITIVE_COLUMN = "password";
+    private static final Pattern INSERT = Pattern.compile("^\\s*insert\\s+into\\s+\\S+\\s*\\(([^)]*)\\)\\s*values\\s*\\(");
+    private static final Pattern ASSIGNMENT = Pattern.compile("(?:^|[\\s,.(])" + SENSITIVE_COLUMN + "\\s*(?:=|<>|!=)\\s*\\?");
+
+    private SqlParameterMasker() {
+    }
+
+    // 0부터 시작하는 파라미터 인덱스별 마스킹 여부
+    static boolean[] maskedParameters(String sql, int parameterCount) {
+        boolean[] masked = new boolean[parameterCount];
+        if (sql == null) {
+            return masked;
+        }
+        String lower = sql.toLowerCase(Locale.ROOT);
+        if (!lower.contains(SENSITIVE_COLUMN)) {
+            return masked;
+        }
+
+        Matcher insert = INSERT.matcher(lower);
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            for (int i = 0; i < columns.length && i < parameterCount; i++) {
+                if (columns[i].trim().equals(SENSITIVE_COLUMN)) {
+                    masked[i] = true;
+                }
+            }
+            return masked;
+        }
+
+        List<Integer> placeholders = placeholderPositions(lower);
+        Matcher assignment = ASSIGNMENT.matcher(lower);
+        while (assignment.find()) {
+            int index = placeholders.indexOf(assignment.end() - 1);
+            if (index >= 0 && index < parameterCount) {
+                masked[index] = true;
+            }
+        }
+        return masked;
+    }
+
+    // 문자열 리터럴 밖에 있는 ? 의 위치
+    private static List<Integer> placeholderPositions(String sql) {
+        List<Integer> positions = new ArrayList<>();
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.jdbc;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 준비하는 SQL 을 요청별로 모양(shape)별 횟수로 센다 (SQL 은 바꾸지 않는다)
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.prepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.jdbc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// 요청별 SQL 통계 (SqlStatsFilter, SqlStatementInspector, SqlStatsDataSource)
+// sql-stats.response-headers=true 인 개발 환경에서는 응답 헤더로도 내려준다
+// statement 수와 쿼리 모양은 SqlStatementInspector 로, DB 시간과 느린 쿼리 로그는 execute* 만 재는 SqlStatsDataSource 로 항상 센다
+// row 수는 ResultSet.next() 마다 프록시를 거쳐야 하므로 sql-stats.jdbc.enabled=true (개발, 테스트) 일 때만 센다
+// 커넥션 점유 시간 (ConnectionHoldDataSource, ConnectionHoldProfiler), 느린 쿼리 로그 (SlowQueryLog)
+@Configuration
+public class SqlStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+    }
+
+    // DataSource 빈을 감싸므로 다른 빈보다 먼저 만들어지도록 static 으로 선언합니다.
+    @Bean
+    // SqlStatsDataSource -> ConnectionHoldDataSource -> 원래 DataSource 순서로 감쌉니다.
+    // sql-stats.jdbc.enabled=false 면 statement 의 execute* 만 재고, ResultSet 은 느린 쿼리일 때만 감쌉니다.
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(ObjectProvider<ConnectionHoldProfiler> connectionHoldProfiler,
+                                                                    ObjectProvider<SlowQueryLog> slowQueryLog,
+                                                                    Environment environment) {
+        boolean jdbcStats = environment.getProperty("sql-stats.jdbc.enabled", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlStatsDataSource) && !(bean instanceof ConnectionHoldDataSource)) {
+                    DataSource connectionHold = new ConnectionHoldDataSource(dataSource, connectionHoldProfiler.getObject());
+                    return new SqlStatsDataSource(connectionHold, slowQueryLog.getObject(), jdbcStats);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(
+            @Value("${sql-stats.n-plus-one-threshold:5}") int nPlusOneThreshold,
+            @Value("${sql-stats.response-headers:false}") boolean responseHeaders
+    ) {
+        FilterRegistrationBean<SqlStatsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatsFilter(nPlusOneThreshold, responseHeaders));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(4);
+
+        return registrationBean;
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.expert.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Arrays;
+
+// statement 실행 시간과 row 수를 RequestSqlStats 에 기록하고, 느린 쿼리는 SlowQueryLog 로 넘기는 DataSource
+// 요청 밖(스케줄러, 시작 시 워밍업 등)에서 만든 statement 는 감싸지 않아 추가 비용이 없다
+// rowStats=false 면 execute* 시간만 재고 ResultSet 은 느린 쿼리일 때만 감싼다 (next() 마다 프록시를 거치지 않는다)
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+    private final boolean rowStats;
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    public SqlStatsDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        this(targetDataSource, slowQueryLog, true);
+    }
+
+    public SqlStatsDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog, boolean rowStats) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+        this.rowStats = rowStats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && RequestSqlStats.current() != null) {
+                String sql = method.getName().startsWith("prepare") && args != null && args[0] instanceof String ? (String) args[0] : null;
+                return wrapStatement(statement, new StatementState(sql));
+            }
+            return result;
+        });
+    }
+
+    private Statement wrapStatement(Statement statement, StatementState state) {
+        return proxy(statementType(statement), statement, (target, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    state.bind(index, args[1]);
+                } else if ("clearParameters".equals(name)) {
+                    state.clear();
+                }
+                Object result = invoke(target, method, args);
+                return rowStats && result instanceof ResultSet resultSet ? wrapResultSet(resultSet, null) : result;
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(target, method, args);
+            } catch (SQLException e) {
+                RequestSqlStats stats = RequestSqlStats.current();
+                if (stats != null) {
+                    stats.executed(System.nanoTime() - start);
+                }
+                throw e;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long updated = updatedRows(result);
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.executed(elapsed);
+                if (rowStats && updated > 0) {
+                    stats.rows(updated);
+                }
+            }
+
+            // 느린 쿼리의 호출 위치는 지금 스택에서만 알 수 있으므로 여기서 잡아두고, row 수는 ResultSet 을 닫을 때 채운다
+            SlowQueryLog.Pending slowQuery = null;
+            if (slowQueryLog != null && slowQueryLog.isSlow(elapsed)) {
+                String sql = state.sql != null ? state.sql : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                slowQuery = slowQueryLog.capture(sql, state.parameters(), elapsed, stats);
+            }
+            if (result instanceof ResultSet resultSet && (rowStats || slowQuery != null)) {
+                return wrapResultSet(resultSet, slowQuery);
+            }
+            if (slowQuery != null) {
+                slowQueryLog.submit(slowQuery, Math.max(updated, 0));
+            }
+            return result;
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, SlowQueryLog.Pending slowQuery) {
+        long[] rows = new long[1];
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            if (Boolean.TRUE.equals(result) && "next".equals(name)) {
+                rows[0]++;
+                RequestSqlStats stats = RequestSqlStats.current();
+                if (rowStats && stats != null) {
+                    stats.rows(1);
+                }
+            } else if (slowQuery != null && "close".equals(name)) {
+                slowQueryLog.submit(slowQuery, rows[0]);
+            }
+            return result;
+        });
+    }
+
+    // 프록시가 구현할 인터페이스, CallableStatement/PreparedStatement 도 Statement 이므로 Class<Statement> 로 다룬다
+    @SuppressWarnings("unchecked")
+    private static Class<Statement> statementType(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Class<Statement>) type;
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer updated) {
+            return updated;
+        }
+        if (result instanceof Long updated) {
+            return updated;
+        }
+        if (result instanceof int[] batch) {
+            long sum = 0;
+            for (int updated : batch) {
+                if (updated > 0) {
+                    sum += updated;
+                }
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, TargetInvocationHandler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            // 프록시끼리 비교할 때 원본의 equals 가 프록시를 모르는 문제를 피한다
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return invoke(target, method, args);
+                }
+            }
+            return handler.invoke(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private interface TargetInvocationHandler<T> {
+        Object invoke(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    // prepareStatement 의 SQL 과 바인딩된 파라미터 (1부터 시작하는 인덱스)
+    private static final class StatementState {
+        private static final Object[] EMPTY = new Object[0];
+
+        private final String sql;
+        private Object[] parameters = EMPTY;
+        private int count;
+
+        private StatementState(String sql) {
+            this.sql = sql;
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            count = Math.max(count, index);
+        }
+
+        private void clear() {
+            Arrays.fill(parameters, null);
+            count = 0;
+        }
+
+        private Object[] parameters() {
+            return Arrays.copyOf(parameters, count);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.RequestCompletion;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 RequestSqlStats 를 열고 닫는다
+// 같은 모양의 SQL 이 nPlusOneThreshold 번을 넘게 실행되면 N+1 으로 의심하고 경고를 남긴다
+// 비동기 요청은 작업 스레드의 SQL 까지 모두 끝난 뒤에 검사한다
+@Slf4j(topic = "SqlStats")
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Micros";
+
+    private final int nPlusOneThreshold;
+    private final boolean responseHeaders;
+
+    public SqlStatsFilter(int nPlusOneThreshold, boolean responseHeaders) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin(request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(RequestSqlStats.ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            RequestCompletion.whenComplete(request, () -> {
+                // 본문이 있는 응답은 SqlStatsResponseAdvice 가 커밋 전에 헤더를 추가한다
+                if (responseHeaders && !response.isCommitted()) {
+                    writeHeaders(response, stats);
+                }
+                warnNPlusOne(request, stats);
+            });
+        }
+    }
+
+    static void writeHeaders(HttpServletResponse response, RequestSqlStats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+        response.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMicros(stats.getDbNanos())));
+    }
+
+    private void warnNPlusOne(HttpServletRequest request, RequestSqlStats stats) {
+        if (stats.getStatements() <= nPlusOneThreshold) {
+            return;
+        }
+        for (Map.Entry<String, Integer> shape : stats.getShapes().entrySet()) {
+            if (shape.getValue() > nPlusOneThreshold) {
+                log.warn("N+1 쿼리가 의심됩니다. {} {} : 같은 쿼리 {}회 실행 (전체 {}회) - {}",
+                        request.getMethod(), request.getRequestURI(), shape.getValue(), stats.getStatements(), shape.getKey());
+            }
+        }
+    }
+}
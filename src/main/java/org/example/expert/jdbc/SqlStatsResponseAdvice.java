@@ -0,0 +1,42 @@
+package org.example.expert.jdbc;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 본문을 쓰기 직전(응답이 커밋되기 전)에 SQL 통계 헤더를 추가한다 (개발 모드 전용)
+// 비동기 요청의 본문은 다른 컨테이너 스레드에서 쓰므로 요청 속성에 남긴 통계를 사용한다
+@RestControllerAdvice
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${sql-stats.response-headers:false}")
+    private boolean responseHeaders;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return responseHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null && request instanceof ServletServerHttpRequest servletRequest) {
+            stats = (RequestSqlStats) servletRequest.getServletRequest().getAttribute(RequestSqlStats.ATTRIBUTE);
+        }
+        if (stats != null && response instanceof ServletServerHttpResponse servletResponse) {
+            HttpServletResponse httpResponse = servletResponse.getServletResponse();
+            SqlStatsFilter.writeHeaders(httpResponse, stats);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.jdbc.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ConnectionHoldResponse {
+
+    private final String method;
+    private final long count;
+    private final double totalHoldMillis;
+    private final double avgAcquireMillis;
+    private final double avgHoldMillis;
+    private final double p99HoldMillis;
+    private final double maxHoldMillis;
+    private final long slowCount;
+    private final String lastSlowStack;
+
+    public ConnectionHoldResponse(String method, long count, double totalHoldMillis, double avgAcquireMillis,
+                                  double avgHoldMillis, double p99HoldMillis, double maxHoldMillis,
+                                  long slowCount, String lastSlowStack) {
+        this.method = method;
+        this.count = count;
+        this.totalHoldMillis = totalHoldMillis;
+        this.avgAcquireMillis = avgAcquireMillis;
+        this.avgHoldMillis = avgHoldMillis;
+        this.p99HoldMillis = p99HoldMillis;
+        this.maxHoldMillis = maxHoldMillis;
+        this.slowCount = slowCount;
+        this.lastSlowStack = lastSlowStack;
+    }
+}
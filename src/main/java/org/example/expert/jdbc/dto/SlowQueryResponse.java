@@ -0,0 +1,28 @@
+package org.example.expert.jdbc.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SlowQueryResponse {
+
+    private final long timestamp;
+    private final String endpoint;
+    private final String caller;
+    private final String sql;
+    private final List<String> parameters;
+    private final long rows;
+    private final double elapsedMillis;
+
+    public SlowQueryResponse(long timestamp, String endpoint, String caller, String sql,
+                             List<String> parameters, long rows, double elapsedMillis) {
+        this.timestamp = timestamp;
+        this.endpoint = endpoint;
+        this.caller = caller;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.rows = rows;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.jfr.dto.JfrRecordingResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class JfrController {
+
+    private final JfrRecordingManager jfrRecordingManager;
+
+    @PostMapping("/admin/jfr/recordings")
+    public ResponseEntity<JfrRecordingResponse> startRecording(
+            @RequestParam(defaultValue = "profile") String preset,
+            @RequestParam(defaultValue = "60") long durationSeconds
+    ) {
+        return ResponseEntity.ok(jfrRecordingManager.start(preset, durationSeconds));
+    }
+
+    @PostMapping("/admin/jfr/recordings/{recordingId}/stop")
+    public ResponseEntity<JfrRecordingResponse> stopRecording(@PathVariable long recordingId) {
+        return ResponseEntity.ok(jfrRecordingManager.stop(recordingId));
+    }
+
+    @GetMapping("/admin/jfr/recordings")
+    public ResponseEntity<List<JfrRecordingResponse>> getRecordings() {
+        return ResponseEntity.ok(jfrRecordingManager.getRecordings());
+    }
+
+    // JDK Mission Control 이나 jfr print 로 열 수 있는 .jfr 파일
+    @GetMapping("/admin/jfr/recordings/{recordingId}/file")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long recordingId) {
+        Path file = jfrRecordingManager.getFile(recordingId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
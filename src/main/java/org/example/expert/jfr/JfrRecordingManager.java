@@ -0,0 +1,213 @@
+package org.example.expert.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.jfr.dto.JfrRecordingResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 재시작 없이 JFR 기록을 시작, 중지, 다운로드한다 (/admin 경로이므로 ADMIN 만 접근)
+// 동시에 하나만 기록하고, 끝난 기록은 최근 maxRecordings 개의 파일만 남긴다
+// 파일 I/O 를 하는 동안 잠금을 잡고 있으므로 synchronized 대신 ReentrantLock 을 쓴다 (가상 스레드 pinning 방지)
+@Slf4j(topic = "JfrRecordingManager")
+@Component
+public class JfrRecordingManager {
+
+    // JDK 기본 제공 설정, profile 은 default 보다 샘플링 주기가 짧고 할당 샘플을 더 남긴다
+    static final Set<String> PRESETS = Set.of("default", "profile");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+
+    @Value("${jfr.dir:${java.io.tmpdir}/expert-jfr}")
+    private String dir = System.getProperty("java.io.tmpdir") + "/expert-jfr";
+
+    @Value("${jfr.max-recordings:5}")
+    private int maxRecordings = 5;
+
+    // 중지를 잊어도 디스크를 채우지 않도록 기록 시간과 크기에 상한을 둔다
+    @Value("${jfr.max-duration-seconds:900}")
+    private long maxDurationSeconds = 900;
+
+    @Value("${jfr.max-size-mb:200}")
+    private long maxSizeMb = 200;
+
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JfrRecordingResponse start(String preset, long durationSeconds) {
+        lock.lock();
+        try {
+            if (!PRESETS.contains(preset)) {
+                throw new InvalidRequestException("지원하지 않는 JFR 설정입니다. " + PRESETS);
+            }
+            if (recordings.values().stream().anyMatch(entry -> entry.recording.getState() == RecordingState.RUNNING)) {
+                throw new InvalidRequestException("이미 진행 중인 JFR 기록이 있습니다.");
+            }
+
+            Recording recording;
+            try {
+                recording = new Recording(Configuration.getConfiguration(preset));
+            } catch (IOException | ParseException e) {
+                throw new ServerException("JFR 설정을 읽지 못했습니다. " + preset);
+            }
+            try {
+                Path directory = Files.createDirectories(Paths.get(dir));
+                recording.setName("expert-" + preset + "-" + NAME_FORMAT.format(Instant.now()));
+                recording.setToDisk(true);
+                recording.setDuration(Duration.ofSeconds(Math.max(1, Math.min(durationSeconds, maxDurationSeconds))));
+                recording.setMaxSize(maxSizeMb * 1024 * 1024);
+                // 중지되거나 duration 이 지나면 이 파일로 기록된다
+                Path file = directory.resolve(recording.getName() + ".jfr");
+                recording.setDestination(file);
+                recording.start();
+
+                recordings.put(recording.getId(), new Entry(recording, preset, file, recording.getName(),
+                        recording.getStartTime(), recording.getDuration().toSeconds()));
+                removeOldRecordings();
+                log.info("JFR 기록 시작 : {} ({}s)", recording.getName(), recording.getDuration().toSeconds());
+                return toResponse(recordings.get(recording.getId()));
+            } catch (IOException e) {
+                recording.close();
+                throw new ServerException("JFR 기록을 시작하지 못했습니다.");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public JfrRecordingResponse stop(long id) {
+        lock.lock();
+        try {
+            Entry entry = get(id);
+            if (entry.recording.getState() != RecordingState.RUNNING) {
+                throw new InvalidRequestException("진행 중인 JFR 기록이 아닙니다.");
+            }
+            entry.recording.stop();
+            log.info("JFR 기록 중지 : {}", entry.name);
+            return toResponse(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<JfrRecordingResponse> getRecordings() {
+        lock.lock();
+        try {
+            return recordings.values().stream().map(this::toResponse).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 진행 중이면 지금까지의 내용을 스냅샷 파일로 남겨서 돌려준다
+    public Path getFile(long id) {
+        lock.lock();
+        try {
+            Entry entry = get(id);
+            try {
+                if (entry.recording.getState() == RecordingState.RUNNING) {
+                    Path snapshot = entry.file.resolveSibling(entry.name + "-snapshot.jfr");
+                    entry.recording.dump(snapshot);
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                throw new ServerException("JFR 스냅샷을 만들지 못했습니다.");
+            }
+            if (!Files.exists(entry.file)) {
+                throw new InvalidRequestException("JFR 기록 파일이 없습니다.");
+            }
+            return entry.file;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            recordings.values().forEach(entry -> entry.recording.close());
+            recordings.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry get(long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            throw new InvalidRequestException("JFR recording not found");
+        }
+        return entry;
+    }
+
+    // 진행 중인 기록은 남기고 오래된 순으로 정리한다
+    private void removeOldRecordings() {
+        Iterator<Entry> iterator = recordings.values().iterator();
+        while (recordings.size() > maxRecordings && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.recording.getState() == RecordingState.RUNNING) {
+                continue;
+            }
+            entry.recording.close();
+            try {
+                Files.deleteIfExists(entry.file);
+                Files.deleteIfExists(entry.file.resolveSibling(entry.name + "-snapshot.jfr"));
+            } catch (IOException e) {
+                log.warn("JFR 기록 파일을 지우지 못했습니다. {}", entry.file, e);
+            }
+            iterator.remove();
+        }
+    }
+
+    // destination 이 있는 기록은 중지되면 JDK 가 파일을 쓰고 바로 닫으므로 (CLOSED) Recording 의 상태 대신
+    // 진행 중이 아니면 파일이 남아 있는지로 상태를 정하고, 이름과 시작 시각은 시작할 때 저장해 둔 값을 쓴다
+    //   RUNNING : 기록 중
+    //   STOPPED : 중지되어 파일을 받을 수 있음
+    //   FAILED  : 중지되었지만 파일이 없음
+    private JfrRecordingResponse toResponse(Entry entry) {
+        boolean running = entry.recording.getState() == RecordingState.RUNNING;
+        String state = running ? "RUNNING" : Files.exists(entry.file) ? "STOPPED" : "FAILED";
+        long sizeBytes = running ? entry.recording.getSize() : fileSize(entry.file);
+        return new JfrRecordingResponse(
+                entry.recording.getId(),
+                entry.name,
+                entry.preset,
+                state,
+                entry.startTime == null ? null : entry.startTime.toString(),
+                entry.durationSeconds,
+                sizeBytes
+        );
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Entry(Recording recording, String preset, Path file, String name, Instant startTime, long durationSeconds) {
+    }
+}
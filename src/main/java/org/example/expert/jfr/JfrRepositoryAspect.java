@@ -0,0 +1,35 @@
+package org.example.expert.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.jfr.event.RepositoryQueryEvent;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+// repository 호출을 RepositoryQueryEvent 로 남긴다
+// 기록 중이 아니면 이벤트를 만들지 않고 바로 진행한다
+@Aspect
+@Component
+public class JfrRepositoryAspect {
+
+    private static final RepositoryQueryEvent PROBE = new RepositoryQueryEvent();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!PROBE.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+            event.setRepository(interfaces.length > 0 ? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringTypeName());
+            event.setMethod(joinPoint.getSignature().getName());
+            event.commitIfEnabled();
+        }
+    }
+}
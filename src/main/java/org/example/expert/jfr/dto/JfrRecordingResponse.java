@@ -0,0 +1,26 @@
+package org.example.expert.jfr.dto;
+
+import lombok.Getter;
+
+@Getter
+public class JfrRecordingResponse {
+
+    private final long id;
+    private final String name;
+    private final String preset;
+    private final String state;
+    private final String startTime;
+    private final long durationSeconds;
+    private final long sizeBytes;
+
+    public JfrRecordingResponse(long id, String name, String preset, String state, String startTime,
+                                long durationSeconds, long sizeBytes) {
+        this.id = id;
+        this.name = name;
+        this.preset = preset;
+        this.state = state;
+        this.startTime = startTime;
+        this.durationSeconds = durationSeconds;
+        this.sizeBytes = sizeBytes;
+    }
+}
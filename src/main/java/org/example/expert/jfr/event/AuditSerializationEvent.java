@@ -0,0 +1,22 @@
+package org.example.expert.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.expert.AuditSerialization")
+@Label("Audit Serialization")
+@Category({"Expert", "Audit"})
+@Description("LoggingAspect 가 남긴 감사 이벤트의 JSON 직렬화 (AuditLogger 소비 스레드)")
+public class AuditSerializationEvent extends ExpertEvent {
+
+    @Label("Size")
+    @DataAmount
+    private int bytes;
+
+    public void setBytes(int bytes) {
+        this.bytes = bytes;
+    }
+}
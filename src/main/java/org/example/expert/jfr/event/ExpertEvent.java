@@ -0,0 +1,47 @@
+package org.example.expert.jfr.event;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Label;
+import jdk.jfr.Event;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// 애플리케이션 JFR 이벤트의 공통 필드 (요청 endpoint, 권한)
+// 기록 중이 아니면 shouldCommit 이 false 이므로 요청 속성을 읽거나 문자열을 만들지 않는다
+// JFR 은 상위 클래스의 private 필드를 기록하지 않으므로 공통 필드는 protected 로 둔다
+public abstract class ExpertEvent extends Event {
+
+    @Label("Endpoint")
+    protected String endpoint;
+
+    @Label("User Role")
+    protected String userRole;
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void setUserRole(Object userRole) {
+        this.userRole = userRole == null ? null : userRole.toString();
+    }
+
+    // end 후 기록 대상이면 비어 있는 필드를 현재 요청에서 채워 commit 한다
+    public void commitIfEnabled() {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            if (endpoint == null) {
+                endpoint = request.getMethod() + " " + request.getRequestURI();
+            }
+            if (userRole == null) {
+                setUserRole(request.getAttribute("userRole"));
+            }
+        }
+        commit();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.expert.JwtVerification")
+@Label("JWT Verification")
+@Category({"Expert", "Security"})
+@Description("JwtFilter 의 토큰 서명 검증과 claims 추출")
+public class JwtVerificationEvent extends ExpertEvent {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+}
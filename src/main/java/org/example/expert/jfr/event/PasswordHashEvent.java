@@ -0,0 +1,24 @@
+package org.example.expert.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.expert.PasswordHash")
+@Label("Password Hash")
+@Category({"Expert", "Security"})
+@Description("PasswordEncoder 의 bcrypt 해싱과 검증")
+public class PasswordHashEvent extends ExpertEvent {
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Cost")
+    private final int cost;
+
+    public PasswordHashEvent(String operation, int cost) {
+        this.operation = operation;
+        this.cost = cost;
+    }
+}
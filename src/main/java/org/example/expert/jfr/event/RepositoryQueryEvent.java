@@ -0,0 +1,27 @@
+package org.example.expert.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.expert.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Expert", "Database"})
+@Description("Spring Data repository 메서드 호출 (쿼리 실행과 엔티티 매핑 포함)")
+public class RepositoryQueryEvent extends ExpertEvent {
+
+    @Label("Repository")
+    private String repository;
+
+    @Label("Method")
+    private String method;
+
+    public void setRepository(String repository) {
+        this.repository = repository;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+}
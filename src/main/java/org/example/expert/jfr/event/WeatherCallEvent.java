@@ -0,0 +1,27 @@
+package org.example.expert.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.expert.WeatherCall")
+@Label("Weather API Call")
+@Category({"Expert", "HTTP"})
+@Description("WeatherClient 의 외부 날씨 API 호출")
+public class WeatherCallEvent extends ExpertEvent {
+
+    @Label("URI")
+    private String uri;
+
+    @Label("Status")
+    private int status;
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+}
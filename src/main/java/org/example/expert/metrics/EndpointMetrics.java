@@ -0,0 +1,102 @@
+package org.example.expert.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 컨트롤러 매핑(method + URI 패턴)별 지연 시간 히스토그램과 에러 수, 처리 중인 요청 수
+@Component
+public class EndpointMetrics implements MetricsSource {
+
+    // 매핑되지 않은 요청 (404, 필터에서 거절된 요청)
+    public static final String UNMATCHED = "UNMATCHED";
+
+    // Prometheus 로 내보낼 버킷 경계 (초)
+    private static final double[] EXPORT_BOUNDS = {
+            0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    // uri 패턴 -> method -> 통계, 조회 시 키 객체를 만들지 않도록 2단계로 둔다
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Endpoint>> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder inFlight = new LongAdder();
+
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    public void requestCompleted(String method, String pattern, int status, long nanos) {
+        inFlight.decrement();
+        Endpoint endpoint = endpoint(method, pattern);
+        endpoint.latency.record(nanos);
+        if (status >= 500) {
+            endpoint.serverErrors.increment();
+        } else if (status >= 400) {
+            endpoint.clientErrors.increment();
+        }
+    }
+
+    private Endpoint endpoint(String method, String pattern) {
+        ConcurrentHashMap<String, Endpoint> byMethod = endpoints.get(pattern);
+        if (byMethod == null) {
+            byMethod = endpoints.computeIfAbsent(pattern, key -> new ConcurrentHashMap<>());
+        }
+        Endpoint endpoint = byMethod.get(method);
+        if (endpoint == null) {
+            endpoint = byMethod.computeIfAbsent(method, key -> new Endpoint());
+        }
+        return endpoint;
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.gauge("http_server_requests_in_flight", "처리 중인 요청 수", inFlight.sum());
+
+        writer.type("http_server_requests_seconds", "histogram", "컨트롤러 매핑별 응답 시간");
+        forEachEndpoint((labels, endpoint) -> {
+            long[] snapshot = endpoint.latency.snapshot();
+            long cumulative = 0;
+            int index = 0;
+            for (double bound : EXPORT_BOUNDS) {
+                long boundNanos = (long) (bound * TimeUnit.SECONDS.toNanos(1));
+                while (index < snapshot.length && LatencyHistogram.bucketUpperBound(index) <= boundNanos) {
+                    cumulative += snapshot[index++];
+                }
+                writer.sample("http_server_requests_seconds_bucket", labels + ",le=\"" + bound + "\"", cumulative);
+            }
+            while (index < snapshot.length) {
+                cumulative += snapshot[index++];
+            }
+            writer.sample("http_server_requests_seconds_bucket", labels + ",le=\"+Inf\"", cumulative);
+            writer.sample("http_server_requests_seconds_sum", labels, endpoint.latency.sumNanos() / 1e9);
+            writer.sample("http_server_requests_seconds_count", labels, cumulative);
+        });
+
+        writer.type("http_server_errors_total", "counter", "컨트롤러 매핑별 에러 응답 수");
+        forEachEndpoint((labels, endpoint) -> {
+            writer.sample("http_server_errors_total", labels + ",status=\"4xx\"", endpoint.clientErrors.sum());
+            writer.sample("http_server_errors_total", labels + ",status=\"5xx\"", endpoint.serverErrors.sum());
+        });
+    }
+
+    private void forEachEndpoint(EndpointConsumer consumer) {
+        for (Map.Entry<String, ConcurrentHashMap<String, Endpoint>> byPattern : endpoints.entrySet()) {
+            for (Map.Entry<String, Endpoint> byMethod : byPattern.getValue().entrySet()) {
+                String labels = "method=\"" + byMethod.getKey() + "\",uri=\"" + byPattern.getKey() + "\"";
+                consumer.accept(labels, byMethod.getValue());
+            }
+        }
+    }
+
+    private interface EndpointConsumer {
+        void accept(String labels, Endpoint endpoint);
+    }
+
+    private static final class Endpoint {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.metrics;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.RequestCompletion;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 가장 먼저 실행되어 필터를 포함한 전체 응답 시간을 잰다
+// 매핑 정보는 DispatcherServlet 이 요청 속성에 남긴 URI 패턴을 사용한다 (/todos/{todoId})
+// 비동기 요청은 응답이 끝난 시점까지 잰다
+@RequiredArgsConstructor
+public class EndpointMetricsFilter implements Filter {
+
+    // 메서드는 클라이언트가 임의로 보낼 수 있으므로 표준 메서드 외에는 OTHER 로 묶어 시계열 수를 제한한다
+    static final String OTHER_METHOD = "OTHER";
+    private static final Set<String> STANDARD_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS");
+
+    private final EndpointMetrics endpointMetrics;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        long start = System.nanoTime();
+        endpointMetrics.requestStarted();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (failed) {
+                completed(httpRequest, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
+            } else {
+                RequestCompletion.whenComplete(request, () -> completed(httpRequest, httpResponse.getStatus(), start));
+            }
+        }
+    }
+
+    private void completed(HttpServletRequest request, int status, long start) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        endpointMetrics.requestCompleted(
+                STANDARD_METHODS.contains(request.getMethod()) ? request.getMethod() : OTHER_METHOD,
+                pattern == null ? EndpointMetrics.UNMATCHED : pattern.toString(),
+                status,
+                System.nanoTime() - start
+        );
+    }
+}
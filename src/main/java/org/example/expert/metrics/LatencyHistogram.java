@@ -0,0 +1,79 @@
+package org.example.expert.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// HDR 방식의 log-linear 히스토그램 (단위 : 나노초)
+// 2의 거듭제곱 구간마다 2^SUB_BITS 개의 하위 버킷으로 나누어 상대 오차를 12.5% 이내로 유지한다
+// record 는 배열 원소 하나의 증가와 LongAdder 덧셈뿐이라 할당과 락이 없다
+public class LatencyHistogram {
+
+    static final int SUB_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // 약 68초, 이보다 긴 값은 마지막 버킷에 넣는다
+    static final int MAX_EXPONENT = 36;
+    static final long MAX_TRACKABLE = (1L << MAX_EXPONENT) - 1;
+    static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE));
+        counts.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+    }
+
+    public long sumNanos() {
+        return sum.sum();
+    }
+
+    // 각 버킷의 현재 값을 복사한다 (버킷 사이의 값은 서로 정확히 같은 시점이 아닐 수 있다)
+    public long[] snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    // 백분위 값 (해당 버킷의 상한), 기록이 없으면 0
+    public long valueAtPercentile(double percentile) {
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return MAX_TRACKABLE;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    // 버킷에 들어가는 가장 큰 값
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
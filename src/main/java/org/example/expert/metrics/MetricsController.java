@@ -0,0 +1,26 @@
+package org.example.expert.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 내부 수집용 지표 (JwtFilter 에서 /admin 과 같이 ADMIN 권한만 허용, metrics.scrape-token 을 설정하면 수집기는 그 토큰으로 접근)
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final ObjectProvider<MetricsSource> metricsSources;
+
+    @GetMapping("/internal/metrics")
+    public ResponseEntity<String> getMetrics() {
+        MetricsWriter writer = new MetricsWriter();
+        metricsSources.orderedStream().forEach(metricsSource -> metricsSource.writeMetrics(writer));
+        return ResponseEntity.ok()
+                .header("Content-Type", CONTENT_TYPE)
+                .body(writer.toString());
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.metrics;
+
+// /internal/metrics 에 노출할 값을 가진 컴포넌트가 구현한다
+public interface MetricsSource {
+
+    void writeMetrics(MetricsWriter writer);
+}
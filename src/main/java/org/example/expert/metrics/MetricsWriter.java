@@ -0,0 +1,47 @@
+package org.example.expert.metrics;
+
+// Prometheus text exposition format (0.0.4) 작성기
+public class MetricsWriter {
+
+    private final StringBuilder builder = new StringBuilder(4096);
+
+    // 같은 이름의 샘플보다 먼저 한 번만 호출한다
+    public MetricsWriter type(String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public MetricsWriter sample(String name, double value) {
+        return sample(name, null, value);
+    }
+
+    // labels 는 key="value" 형식을 콤마로 이은 문자열
+    public MetricsWriter sample(String name, String labels, double value) {
+        builder.append(name);
+        if (labels != null && !labels.isEmpty()) {
+            builder.append('{').append(labels).append('}');
+        }
+        builder.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            builder.append((long) value);
+        } else {
+            builder.append(value);
+        }
+        builder.append('\n');
+        return this;
+    }
+
+    public MetricsWriter counter(String name, String help, double value) {
+        return type(name, "counter", help).sample(name, value);
+    }
+
+    public MetricsWriter gauge(String name, String help, double value) {
+        return type(name, "gauge", help).sample(name, value);
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
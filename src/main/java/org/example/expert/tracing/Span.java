@@ -0,0 +1,29 @@
+package org.example.expert.tracing;
+
+import lombok.Getter;
+
+// 요청 스레드에서만 쓰고, 요청이 끝나 TraceStore 에 들어간 뒤에는 바뀌지 않는다
+@Getter
+public class Span {
+
+    private final SpanKind kind;
+    private final String name;
+    private final int depth;
+    private final long startNanos;
+    private long durationNanos = -1;
+    private String error;
+
+    Span(SpanKind kind, String name, int depth, long startNanos) {
+        this.kind = kind;
+        this.name = name;
+        this.depth = depth;
+        this.startNanos = startNanos;
+    }
+
+    void end(long endNanos, Throwable error) {
+        this.durationNanos = endNanos - startNanos;
+        if (error != null) {
+            this.error = error.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.tracing;
+
+public enum SpanKind {
+    FILTER,
+    CONTROLLER,
+    SERVICE,
+    REPOSITORY,
+    HTTP
+}
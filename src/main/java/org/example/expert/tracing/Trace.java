@@ -0,0 +1,62 @@
+package org.example.expert.tracing;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 하나의 span 목록 (시작 순서, depth 로 부모 관계를 표현)
+// 비동기 요청은 요청 스레드와 작업 스레드 (AsyncExecutors) 가 함께 쓰므로 동기화한다 (경합은 거의 없다)
+@Getter
+public class Trace {
+
+    private final String traceId;
+    private final long timestamp;
+    private final String method;
+    private final String uri;
+    private final long startNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private String pattern;
+    private int status;
+    private long durationNanos;
+    // maxSpans 를 넘어서 버린 span 수 (루프 안에서 repository 를 부르는 경우)
+    private int droppedSpans;
+
+    private final int maxSpans;
+    private int depth;
+
+    Trace(String traceId, String method, String uri, int maxSpans) {
+        this.traceId = traceId;
+        this.timestamp = System.currentTimeMillis();
+        this.method = method;
+        this.uri = uri;
+        this.startNanos = System.nanoTime();
+        this.maxSpans = maxSpans;
+    }
+
+    // 버린 span 은 null, 그래도 depth 는 맞춰야 하므로 end 는 항상 호출한다
+    synchronized Span start(SpanKind kind, String name) {
+        Span span = null;
+        if (spans.size() < maxSpans) {
+            span = new Span(kind, name, depth, System.nanoTime());
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+        depth++;
+        return span;
+    }
+
+    synchronized void end(Span span, Throwable error) {
+        depth--;
+        if (span != null) {
+            span.end(System.nanoTime(), error);
+        }
+    }
+
+    synchronized void finish(String pattern, int status) {
+        this.pattern = pattern;
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+}
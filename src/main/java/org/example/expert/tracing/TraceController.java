@@ -0,0 +1,38 @@
+package org.example.expert.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.tracing.dto.TraceResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 내부 조회용 trace (JwtFilter 에서 ADMIN 권한만 허용)
+@RestController
+@RequiredArgsConstructor
+public class TraceController {
+
+    private final TraceStore traceStore;
+
+    // slowest=true 면 상위 1% 로 보관한 trace 를 느린 순으로, 아니면 최근 trace 를 최신순으로
+    @GetMapping("/internal/traces")
+    public ResponseEntity<List<TraceResponse>> getTraces(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean slowest,
+            @RequestParam(defaultValue = "0") long minMillis
+    ) {
+        List<Trace> traces = slowest ? traceStore.slowest(limit) : traceStore.recent(limit, minMillis);
+        return ResponseEntity.ok(traces.stream().map(TraceResponse::from).toList());
+    }
+
+    @GetMapping("/internal/traces/{traceId}")
+    public ResponseEntity<TraceResponse> getTrace(@PathVariable String traceId) {
+        Trace trace = traceStore.find(traceId)
+                .orElseThrow(() -> new InvalidRequestException("Trace not found"));
+        return ResponseEntity.ok(TraceResponse.from(trace));
+    }
+}
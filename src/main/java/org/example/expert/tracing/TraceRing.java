@@ -0,0 +1,49 @@
+package org.example.expert.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 고정 크기 링 버퍼, 쓰기는 cursor 증가와 슬롯 교체뿐이라 락이 없다
+// 읽는 도중에 덮어쓴 슬롯은 더 최근 trace 로 보일 수 있다 (조회용이므로 허용)
+final class TraceRing {
+
+    private final AtomicReferenceArray<Trace> slots;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+
+    TraceRing(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    // 지금까지 추가된 수 (이번 trace 포함)
+    long add(Trace trace) {
+        long sequence = cursor.getAndIncrement();
+        slots.set((int) (sequence & mask), trace);
+        return sequence + 1;
+    }
+
+    // 최신순
+    List<Trace> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0, end - slots.length());
+        List<Trace> traces = new ArrayList<>((int) (end - start));
+        for (long i = end - 1; i >= start; i--) {
+            Trace trace = slots.get((int) (i & mask));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    long added() {
+        return cursor.get();
+    }
+}
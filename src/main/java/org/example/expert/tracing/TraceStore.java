@@ -0,0 +1,83 @@
+package org.example.expert.tracing;
+
+import org.example.expert.metrics.LatencyHistogram;
+import org.example.expert.metrics.MetricsSource;
+import org.example.expert.metrics.MetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 최근 trace 와 느린 trace 를 각각 링 버퍼에 보관한다
+// 요청이 끝난 뒤 전체 시간을 보고 상위 1% 에 드는 trace 만 느린 쪽에도 넣는다 (tail-based)
+// 최근 버퍼는 트래픽이 많으면 금방 덮어쓰이지만 느린 trace 는 더 오래 남는다
+@Component
+public class TraceStore implements MetricsSource {
+
+    // 이보다 적게 모였을 때는 상위 1% 를 정할 수 없으므로 느린 trace 로 보지 않는다
+    static final int MIN_SAMPLES = 100;
+    // 임계값을 다시 계산하는 주기 (trace 수)
+    private static final int RECALCULATE_INTERVAL = 128;
+    private static final double SLOW_PERCENTILE = 99.0;
+
+    private final TraceRing recent;
+    private final TraceRing slowest;
+    private final LatencyHistogram durations = new LatencyHistogram();
+    private volatile long slowThresholdNanos = Long.MAX_VALUE;
+
+    public TraceStore(@Value("${tracing.recent-capacity:1024}") int recentCapacity,
+                      @Value("${tracing.slow-capacity:256}") int slowCapacity) {
+        this.recent = new TraceRing(recentCapacity);
+        this.slowest = new TraceRing(slowCapacity);
+    }
+
+    public void record(Trace trace) {
+        long count = recent.add(trace);
+        durations.record(trace.getDurationNanos());
+
+        if (count == MIN_SAMPLES || (count > MIN_SAMPLES && count % RECALCULATE_INTERVAL == 0)) {
+            slowThresholdNanos = durations.valueAtPercentile(SLOW_PERCENTILE);
+        }
+        if (trace.getDurationNanos() >= slowThresholdNanos) {
+            slowest.add(trace);
+        }
+    }
+
+    // 최신순, minMillis 보다 짧은 trace 는 제외
+    public List<Trace> recent(int limit, long minMillis) {
+        long minNanos = minMillis * 1_000_000;
+        return recent.snapshot().stream()
+                .filter(trace -> trace.getDurationNanos() >= minNanos)
+                .limit(limit)
+                .toList();
+    }
+
+    // 느린 순
+    public List<Trace> slowest(int limit) {
+        return slowest.snapshot().stream()
+                .sorted(Comparator.comparingLong(Trace::getDurationNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Optional<Trace> find(String traceId) {
+        return Stream.concat(slowest.snapshot().stream(), recent.snapshot().stream())
+                .filter(trace -> trace.getTraceId().equals(traceId))
+                .findFirst();
+    }
+
+    public long getSlowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    @Override
+    public void writeMetrics(MetricsWriter writer) {
+        writer.counter("traces_recorded_total", "기록한 trace 수", recent.added())
+                .counter("traces_slow_retained_total", "느린 trace 로 보관한 수", slowest.added())
+                .gauge("traces_slow_threshold_seconds", "느린 trace 임계값 (상위 1%)",
+                        slowThresholdNanos == Long.MAX_VALUE ? 0 : slowThresholdNanos / 1e9);
+    }
+}
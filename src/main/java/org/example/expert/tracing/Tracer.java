@@ -0,0 +1,61 @@
+package org.example.expert.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 현재 요청의 Trace (TracingFilter 가 시작과 끝을 관리)
+// 요청 밖이라면 start 는 null 을 돌려주므로 배치 작업이나 테스트에서는 아무것도 기록하지 않는다
+public final class Tracer {
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private Tracer() {
+    }
+
+    static Trace begin(String method, String uri, int maxSpans) {
+        Trace trace = new Trace(newTraceId(), method, uri, maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 비동기 작업 스레드에서 요청의 trace 를 이어서 쓴다 (AsyncExecutors)
+    // 이전 값을 돌려주므로 작업이 끝나면 그 값으로 다시 attach 한다
+    public static Trace attach(Trace trace) {
+        Trace previous = CURRENT.get();
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+        return previous;
+    }
+
+    public static Trace current() {
+        return CURRENT.get();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    // 반환값이 null 이어도 end 에 그대로 넘기면 된다
+    public static Span start(SpanKind kind, String name) {
+        Trace trace = CURRENT.get();
+        return trace == null ? null : trace.start(kind, name);
+    }
+
+    public static void end(Span span, Throwable error) {
+        Trace trace = CURRENT.get();
+        if (trace != null) {
+            trace.end(span, error);
+        }
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+}
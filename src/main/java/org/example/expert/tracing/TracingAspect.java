@@ -0,0 +1,59 @@
+package org.example.expert.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+// 컨트롤러, 서비스, repository 호출을 span 으로 남긴다
+// trace 가 없는 스레드에서는 이름도 만들지 않고 바로 진행한다
+@Aspect
+@Component
+public class TracingAspect {
+
+    @Around("execution(* org.example.expert.domain..controller.*.*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, SpanKind.CONTROLLER);
+    }
+
+    @Around("execution(* org.example.expert.domain..service.*.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, SpanKind.SERVICE);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, SpanKind.REPOSITORY);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, SpanKind kind) throws Throwable {
+        if (!Tracer.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        Span span = Tracer.start(kind, name(joinPoint, kind));
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            Tracer.end(span, error);
+        }
+    }
+
+    // TodoService.getTodos, repository 는 구현체(SimpleJpaRepository) 대신 인터페이스 이름 (TodoRepository.findById)
+    private static String name(ProceedingJoinPoint joinPoint, SpanKind kind) {
+        Class<?> type;
+        if (kind == SpanKind.REPOSITORY) {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+            type = interfaces.length > 0 ? interfaces[0] : joinPoint.getSignature().getDeclaringType();
+        } else {
+            type = ClassUtils.getUserClass(joinPoint.getTarget());
+        }
+        return type.getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+}
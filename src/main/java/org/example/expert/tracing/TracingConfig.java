@@ -0,0 +1,48 @@
+package org.example.expert.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청 trace (TracingFilter, TracingAspect, TraceStore), 외부 HTTP 호출은 RestTemplate 인터셉터로 남긴다
+@Configuration
+public class TracingConfig {
+
+    // EndpointMetricsFilter 보다 먼저 실행되어 모든 필터를 포함합니다.
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(
+            TraceStore traceStore,
+            @Value("${tracing.enabled:true}") boolean enabled,
+            @Value("${tracing.max-spans:256}") int maxSpans
+    ) {
+        FilterRegistrationBean<TracingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TracingFilter(traceStore, maxSpans));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(0);
+        registrationBean.setEnabled(enabled);
+
+        return registrationBean;
+    }
+
+    // RestTemplateBuilder 로 만든 RestTemplate (WeatherClient) 에 적용됩니다.
+    @Bean
+    public RestTemplateCustomizer tracingRestTemplateCustomizer() {
+        return restTemplate -> restTemplate.getInterceptors().add((request, body, execution) -> {
+            if (!Tracer.isActive()) {
+                return execution.execute(request, body);
+            }
+            Span span = Tracer.start(SpanKind.HTTP, request.getMethod() + " " + request.getURI().getHost() + request.getURI().getPath());
+            Throwable error = null;
+            try {
+                return execution.execute(request, body);
+            } catch (Throwable e) {
+                error = e;
+                throw e;
+            } finally {
+                Tracer.end(span, error);
+            }
+        });
+    }
+}
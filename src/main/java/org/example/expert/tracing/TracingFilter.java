@@ -0,0 +1,53 @@
+package org.example.expert.tracing;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.RequestCompletion;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 다른 필터보다 먼저 실행되어 trace 를 시작하고, 필터 체인 전체를 FILTER span 으로 잰다
+// 컨트롤러 span 이 시작되기 전까지가 필터 시간, 컨트롤러 span 이 끝난 뒤가 직렬화 시간이다
+// 비동기 요청은 응답이 끝났을 때 trace 를 마무리한다 (작업 스레드의 span 포함)
+@RequiredArgsConstructor
+public class TracingFilter implements Filter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final TraceStore traceStore;
+    private final int maxSpans;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        Trace trace = Tracer.begin(httpRequest.getMethod(), httpRequest.getRequestURI(), maxSpans);
+        httpResponse.setHeader(TRACE_ID_HEADER, trace.getTraceId());
+        Span span = Tracer.start(SpanKind.FILTER, "filterChain");
+        Throwable error = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            Tracer.end(span, error);
+            Tracer.end();
+            if (error == null) {
+                RequestCompletion.whenComplete(request, () -> finish(trace, httpRequest, httpResponse.getStatus()));
+            } else {
+                finish(trace, httpRequest, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    private void finish(Trace trace, HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        trace.finish(pattern == null ? null : pattern.toString(), status);
+        traceStore.record(trace);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.tracing.dto;
+
+import lombok.Getter;
+import org.example.expert.tracing.SpanKind;
+
+@Getter
+public class SpanResponse {
+
+    private final SpanKind kind;
+    private final String name;
+    private final int depth;
+    // trace 시작 기준
+    private final double startMillis;
+    private final double durationMillis;
+    private final String error;
+
+    public SpanResponse(SpanKind kind, String name, int depth, double startMillis, double durationMillis, String error) {
+        this.kind = kind;
+        this.name = name;
+        this.depth = depth;
+        this.startMillis = startMillis;
+        this.durationMillis = durationMillis;
+        this.error = error;
+    }
+}
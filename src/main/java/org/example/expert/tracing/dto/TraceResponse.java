@@ -0,0 +1,53 @@
+package org.example.expert.tracing.dto;
+
+import lombok.Getter;
+import org.example.expert.tracing.Span;
+import org.example.expert.tracing.Trace;
+
+import java.util.List;
+
+@Getter
+public class TraceResponse {
+
+    private final String traceId;
+    private final long timestamp;
+    private final String method;
+    private final String uri;
+    private final String pattern;
+    private final int status;
+    private final double durationMillis;
+    private final int droppedSpans;
+    private final List<SpanResponse> spans;
+
+    public TraceResponse(String traceId, long timestamp, String method, String uri, String pattern, int status,
+                         double durationMillis, int droppedSpans, List<SpanResponse> spans) {
+        this.traceId = traceId;
+        this.timestamp = timestamp;
+        this.method = method;
+        this.uri = uri;
+        this.pattern = pattern;
+        this.status = status;
+        this.durationMillis = durationMillis;
+        this.droppedSpans = droppedSpans;
+        this.spans = spans;
+    }
+
+    public static TraceResponse from(Trace trace) {
+        List<SpanResponse> spans = trace.getSpans().stream()
+                .map(span -> new SpanResponse(
+                        span.getKind(),
+                        span.getName(),
+                        span.getDepth(),
+                        toMillis(span.getStartNanos() - trace.getStartNanos()),
+                        toMillis(span.getDurationNanos()),
+                        span.getError()
+                ))
+                .toList();
+        return new TraceResponse(trace.getTraceId(), trace.getTimestamp(), trace.getMethod(), trace.getUri(),
+                trace.getPattern(), trace.getStatus(), toMillis(trace.getDurationNanos()), trace.getDroppedSpans(), spans);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
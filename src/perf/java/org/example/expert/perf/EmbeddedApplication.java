@@ -0,0 +1,68 @@
+package org.example.expert.perf;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+// 부하 테스트, 재생 도구가 같은 JVM 안에 띄우는 애플리케이션 (H2 파일 DB, 임의 포트)
+// 처리율 제한은 측정을 방해하므로 사실상 끈다
+public class EmbeddedApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private EmbeddedApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUri = URI.create("http://127.0.0.1:" + port);
+    }
+
+    // database : H2 파일 경로 (./build/perf/loadtest), overrides 로 기본 설정을 덮어쓴다
+    public static EmbeddedApplication start(String database, String weatherApiUrl, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + database + ";MODE=MySQL;AUTO_SERVER=TRUE");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("jwt.secret.key", randomSecret());
+        properties.put("weather.api.url", weatherApiUrl);
+        properties.put("rate-limit.auth.capacity", Integer.MAX_VALUE);
+        properties.put("rate-limit.write.capacity", Integer.MAX_VALUE);
+        properties.put("audit.log.dir", "build/perf/audit");
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(overrides);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(properties)
+                .run();
+        return new EmbeddedApplication(context);
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.perf;
+
+import org.example.expert.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// endpoint 하나의 응답 시간 분포와 결과 (HTTP 클라이언트 스레드에서 동시에 기록)
+class EndpointStats {
+
+    private final String endpoint;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    // 동시 요청 수 상한에 걸려 보내지 못한 요청 (서버가 도착률을 따라가지 못한다는 뜻)
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    // status 가 -1 이면 연결 실패나 타임아웃
+    void record(long latencyNanos, int status) {
+        latencies.record(latencyNanos);
+        count.increment();
+        if (status < 0 || status >= 500) {
+            errors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    Map<String, Object> report(double seconds) {
+        long total = count.sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("endpoint", endpoint);
+        report.put("count", total);
+        report.put("throughput", total / seconds);
+        report.put("p50Millis", latencies.valueAtPercentile(50) / 1e6);
+        report.put("p99Millis", latencies.valueAtPercentile(99) / 1e6);
+        report.put("p999Millis", latencies.valueAtPercentile(99.9) / 1e6);
+        report.put("clientErrorRate", total == 0 ? 0 : (double) clientErrors.sum() / total);
+        report.put("errorRate", total == 0 ? 0 : (double) errors.sum() / total);
+        report.put("dropped", dropped.sum());
+        return report;
+    }
+}
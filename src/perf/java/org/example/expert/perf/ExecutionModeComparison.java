@@ -0,0 +1,36 @@
+package org.example.expert.perf;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// 같은 부하를 platform (Tomcat 스레드 풀) 과 virtual (가상 스레드) 모드로 차례로 주고 결과를 비교한다 (./gradlew loadTestModes)
+// 인자는 LoadTest 와 같다 (--mode, --report 는 무시한다). 기본은 동시 연결 10000 개
+// 결과 : build/perf/loadtest-platform.json, build/perf/loadtest-virtual.json
+public class ExecutionModeComparison {
+
+    private static final String[] MODES = {"platform", "virtual"};
+
+    public static void main(String[] args) throws Exception {
+        String[] shared = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--mode=") && !arg.startsWith("--report="))
+                .toArray(String[]::new);
+        if (Arrays.stream(shared).noneMatch(arg -> arg.startsWith("--connections="))) {
+            shared = Stream.concat(Arrays.stream(shared), Stream.of("--connections=10000")).toArray(String[]::new);
+        }
+
+        for (String mode : MODES) {
+            String[] modeArgs = Stream.concat(Arrays.stream(shared),
+                    Stream.of("--mode=" + mode, "--report=" + report(mode))).toArray(String[]::new);
+            LoadTest.run(LoadTestOptions.parse(modeArgs));
+        }
+
+        // platform 을 기준으로 virtual 이 나빠진 endpoint 를 표시한다
+        System.out.println();
+        System.out.println("platform -> virtual");
+        ReportDiff.compare(report(MODES[0]), report(MODES[1]), 0.1);
+    }
+
+    private static String report(String mode) {
+        return "build/perf/loadtest-" + mode + ".json";
+    }
+}
@@ -0,0 +1,351 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 애플리케이션을 같은 JVM 에 띄우고 실제 HTTP 로 부하를 주는 도구 (./gradlew loadTest)
+// 1. 날씨 API stub 과 H2 파일 DB 로 애플리케이션 시작
+// 2. /auth/signup 으로 유저 N 명 가입, 유저마다 일정 1개 작성
+// 3. warmup 후 정해진 도착률로 API 를 섞어서 호출하고 endpoint 별 처리량, p50/p99/p999, 오류율을 출력
+// 응답 시간은 실제 전송 시각이 아니라 예정된 전송 시각부터 잰다 (coordinated omission 보정)
+// 부하 생성기와 서버가 CPU 를 나눠 쓰므로 절대값보다 같은 장비에서의 변경 전후 비교에 사용한다
+// --connections=N 이면 N 개의 가상 스레드 클라이언트가 연결을 하나씩 잡고 요청을 반복한다 (ulimit -n 을 N 이상으로 올려야 한다)
+public class LoadTest {
+
+    private static final String PASSWORD = "Password1234";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final ExecutorService clientExecutor;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Semaphore inFlight;
+    private final SplittableRandom random;
+    private final List<VirtualUser> users = new ArrayList<>();
+    // 완료 콜백 (HTTP 클라이언트 스레드) 에서 추가하므로 동기화한다
+    private final List<TodoRef> todos = Collections.synchronizedList(new ArrayList<>());
+
+    LoadTest(LoadTestOptions options, URI baseUri) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.inFlight = new Semaphore(options.maxInFlight);
+        this.random = new SplittableRandom(options.seed);
+        // 연결 수가 많으면 응답 처리 스레드가 병목이 되지 않도록 가상 스레드를 쓴다
+        this.clientExecutor = options.connections > 0
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(8, runnable -> {
+                    Thread thread = new Thread(runnable, "load-test-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        run(LoadTestOptions.parse(args));
+    }
+
+    static void run(LoadTestOptions options) throws Exception {
+        System.out.println("load test : " + options);
+
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("security.bcrypt.cost", options.bcryptCost);
+        overrides.put("spring.jpa.hibernate.ddl-auto", options.fresh ? "create" : "update");
+        overrides.put("server.tomcat.max-connections", Math.max(8192, options.connections + 1024));
+        if (options.mode.equals("virtual")) {
+            overrides.put("spring.profiles.active", "virtual");
+        }
+        if (options.serverThreads > 0) {
+            overrides.put("server.tomcat.threads.max", options.serverThreads);
+        }
+        try (WeatherStub weatherStub = WeatherStub.start(options.weatherDelayMillis);
+             EmbeddedApplication application = EmbeddedApplication.start(options.database, weatherStub.url(), overrides)) {
+            new LoadTest(options, application.baseUri()).run();
+        }
+    }
+
+    void run() throws Exception {
+        signupUsers();
+        System.out.printf("signup %d users, %d todos%n", users.size(), todos.size());
+
+        Map<Operation, EndpointStats> stats = newStats();
+        long start;
+        if (options.connections > 0) {
+            driveConnections(options.warmupSeconds, newStats());
+            start = System.nanoTime();
+            driveConnections(options.durationSeconds, stats);
+        } else {
+            drive(options.warmupSeconds, newStats());
+            start = System.nanoTime();
+            drive(options.durationSeconds, stats);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        report(stats, seconds);
+        clientExecutor.shutdownNow();
+    }
+
+    private void signupUsers() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<CompletableFuture<VirtualUser>> signups = new ArrayList<>();
+        Semaphore concurrency = new Semaphore(32);
+        for (int i = 0; i < options.users; i++) {
+            String body = json(Map.of(
+                    "email", "loadtest-" + runId + "-" + i + "@example.com",
+                    "password", PASSWORD,
+                    "userRole", "USER"
+            ));
+            concurrency.acquireUninterruptibly();
+            signups.add(httpClient.sendAsync(post("/auth/signup", null, body), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> concurrency.release())
+                    .thenApply(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("signup 실패 : " + response.statusCode() + " " + response.body());
+                        }
+                        String token = readTree(response.body()).get("bearerToken").asText();
+                        return new VirtualUser(userId(token), token);
+                    }));
+        }
+        signups.forEach(signup -> users.add(signup.join()));
+
+        // 모든 유저가 일정 1개씩은 가지고 시작한다 (조회, 댓글, 담당자 API 의 대상)
+        List<CompletableFuture<Void>> creates = new ArrayList<>();
+        for (VirtualUser user : users) {
+            concurrency.acquireUninterruptibly();
+            creates.add(httpClient.sendAsync(createTodo(user, random), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> concurrency.release())
+                    .thenAccept(response -> addTodo(response, user)));
+        }
+        creates.forEach(CompletableFuture::join);
+    }
+
+    // durationSeconds 동안 rate 의 일정한 간격으로 요청을 보낸다 (응답을 기다리지 않는다)
+    private void drive(int durationSeconds, Map<Operation, EndpointStats> stats) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        int totalWeight = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = pick(totalWeight, random);
+            EndpointStats endpointStats = stats.get(operation);
+            if (!inFlight.tryAcquire()) {
+                endpointStats.dropped();
+                continue;
+            }
+            VirtualUser user = users.get(random.nextInt(users.size()));
+            TodoRef todo = todos.get(random.nextInt(todos.size()));
+            HttpRequest request = request(operation, user, todo, random);
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                inFlight.release();
+                endpointStats.record(System.nanoTime() - intendedStart, error == null ? response.statusCode() : -1);
+                if (error == null && operation == Operation.CREATE_TODO) {
+                    addTodo(response, user);
+                }
+            });
+        }
+
+        // 남은 요청이 끝날 때까지 기다린다
+        if (inFlight.tryAcquire(options.maxInFlight, REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            inFlight.release(options.maxInFlight);
+        }
+    }
+
+    // connections 개의 클라이언트가 각자 응답을 받는 즉시 다음 요청을 보낸다 (closed model)
+    // 서버가 느려지면 요청 수가 줄어들므로 응답 시간은 실제 전송 시각부터 잰다
+    private void driveConnections(int durationSeconds, Map<Operation, EndpointStats> stats) {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        int totalWeight = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.connections; i++) {
+                SplittableRandom clientRandom = random.split();
+                clients.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        Operation operation = pick(totalWeight, clientRandom);
+                        VirtualUser user = users.get(clientRandom.nextInt(users.size()));
+                        TodoRef todo = todos.get(clientRandom.nextInt(todos.size()));
+                        HttpRequest request = request(operation, user, todo, clientRandom);
+
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                            status = response.statusCode();
+                            if (operation == Operation.CREATE_TODO) {
+                                addTodo(response, user);
+                            }
+                        } catch (IOException e) {
+                            status = -1;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        stats.get(operation).record(System.nanoTime() - start, status);
+                    }
+                });
+            }
+        }
+    }
+
+    private Operation pick(int totalWeight, SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : options.mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest request(Operation operation, VirtualUser user, TodoRef todo, SplittableRandom random) {
+        String todoPath = "/todos/" + todo.id();
+        return switch (operation) {
+            case CREATE_TODO -> createTodo(user, random);
+            case LIST_TODOS -> get("/todos?page=" + (1 + random.nextInt(5)) + "&size=10", user);
+            case GET_TODO -> get(todoPath, user);
+            case CREATE_COMMENT -> post(todoPath + "/comments", user,
+                    json(Map.of("contents", "comment " + random.nextInt(1_000_000))));
+            case LIST_COMMENTS -> get(todoPath + "/comments", user);
+            // 담당자는 일정 작성자만 등록할 수 있다, 이미 등록된 유저라면 400 (clientErrorRate 로 집계)
+            case CREATE_MANAGER -> post(todoPath + "/managers", todo.owner(),
+                    json(Map.of("managerUserId", users.get(random.nextInt(users.size())).id())));
+            case LIST_MANAGERS -> get(todoPath + "/managers", user);
+        };
+    }
+
+    private HttpRequest createTodo(VirtualUser user, SplittableRandom random) {
+        return post("/todos", user, json(Map.of("title", "title " + random.nextInt(1_000_000), "contents", "load test contents")));
+    }
+
+    private HttpRequest get(String path, VirtualUser user) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", user.token())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, VirtualUser user, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (user != null) {
+            builder.header("Authorization", user.token());
+        }
+        return builder.build();
+    }
+
+    private void addTodo(HttpResponse<String> response, VirtualUser owner) {
+        if (response.statusCode() == 200) {
+            todos.add(new TodoRef(readTree(response.body()).get("id").asLong(), owner));
+        }
+    }
+
+    private Map<Operation, EndpointStats> newStats() {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.endpoint()));
+        }
+        return stats;
+    }
+
+    private void report(Map<Operation, EndpointStats> stats, double seconds) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        System.out.printf("%n%-32s %8s %9s %9s %9s %9s %8s %8s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "4xx", "errors", "dropped");
+        for (EndpointStats endpointStats : stats.values()) {
+            if (endpointStats.count() == 0) {
+                continue;
+            }
+            Map<String, Object> report = endpointStats.report(seconds);
+            endpoints.add(report);
+            System.out.printf("%-32s %8d %9.1f %9.2f %9.2f %9.2f %7.2f%% %7.2f%% %8d%n",
+                    report.get("endpoint"), report.get("count"), report.get("throughput"),
+                    report.get("p50Millis"), report.get("p99Millis"), report.get("p999Millis"),
+                    (double) report.get("clientErrorRate") * 100, (double) report.get("errorRate") * 100, report.get("dropped"));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options.toString());
+        result.put("seconds", seconds);
+        result.put("endpoints", endpoints);
+        Path path = Paths.get(options.report);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), result);
+        System.out.println("report : " + path.toAbsolutePath());
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰의 subject 가 userId 이다 (서명 검증은 하지 않는다)
+    private long userId(String bearerToken) {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        String json = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+        return readTree(json).get("sub").asLong();
+    }
+
+    record VirtualUser(long id, String token) {
+    }
+
+    record TodoRef(long id, VirtualUser owner) {
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.perf;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// --name=value 형식의 인자 (./gradlew loadTest -PloadTestArgs="--rate=500 --duration=120")
+class LoadTestOptions {
+
+    int users = 100;
+    // 초당 요청 도착률 (open model, 응답을 기다리지 않고 일정한 간격으로 보낸다)
+    int rate = 200;
+    int warmupSeconds = 10;
+    int durationSeconds = 60;
+    int maxInFlight = 5_000;
+    // 0 보다 크면 rate 대신 이 수만큼의 클라이언트가 응답을 받는 즉시 다음 요청을 보낸다 (closed model, 동시 연결 수 고정)
+    int connections = 0;
+    // platform : Tomcat 스레드 풀, virtual : application-virtual.yml (가상 스레드)
+    String mode = "platform";
+    int bcryptCost = 4;
+    // 날씨 API (WeatherStub) 응답 지연, 일정 등록이 느린 쓰기가 된다
+    long weatherDelayMillis = 0;
+    // Tomcat 요청 스레드 수 (server.tomcat.threads.max), 0 이면 기본값 200
+    int serverThreads = 0;
+    // true 면 스키마를 새로 만든다 (이전 실행의 데이터 제거)
+    boolean fresh = true;
+    String database = "./build/perf/loadtest";
+    String report = "build/perf/loadtest-report.json";
+    long seed = 42;
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--name=value 형식이어야 합니다 : " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        options.users = Integer.parseInt(values.getOrDefault("users", String.valueOf(options.users)));
+        options.rate = Integer.parseInt(values.getOrDefault("rate", String.valueOf(options.rate)));
+        options.warmupSeconds = Integer.parseInt(values.getOrDefault("warmup", String.valueOf(options.warmupSeconds)));
+        options.durationSeconds = Integer.parseInt(values.getOrDefault("duration", String.valueOf(options.durationSeconds)));
+        options.maxInFlight = Integer.parseInt(values.getOrDefault("maxInFlight", String.valueOf(options.maxInFlight)));
+        options.connections = Integer.parseInt(values.getOrDefault("connections", String.valueOf(options.connections)));
+        options.mode = values.getOrDefault("mode", options.mode);
+        if (!options.mode.equals("platform") && !options.mode.equals("virtual")) {
+            throw new IllegalArgumentException("--mode 는 platform 또는 virtual 이어야 합니다 : " + options.mode);
+        }
+        options.bcryptCost = Integer.parseInt(values.getOrDefault("bcryptCost", String.valueOf(options.bcryptCost)));
+        options.weatherDelayMillis = Long.parseLong(values.getOrDefault("weatherDelay", String.valueOf(options.weatherDelayMillis)));
+        options.serverThreads = Integer.parseInt(values.getOrDefault("serverThreads", String.valueOf(options.serverThreads)));
+        options.fresh = Boolean.parseBoolean(values.getOrDefault("fresh", String.valueOf(options.fresh)));
+        options.database = values.getOrDefault("database", options.database);
+        options.report = values.getOrDefault("report", options.report);
+        options.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(options.seed)));
+
+        for (Operation operation : Operation.values()) {
+            options.mix.put(operation, values.containsKey("mix") ? 0 : operation.defaultWeight);
+        }
+        if (values.containsKey("mix")) {
+            for (String entry : values.get("mix").split(",")) {
+                String[] pair = entry.split("=");
+                options.mix.put(Operation.valueOf(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+            }
+        }
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", users=" + users
+                + (connections > 0 ? ", connections=" + connections : ", rate=" + rate + "/s")
+                + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds
+                + "s, bcryptCost=" + bcryptCost
+                + (weatherDelayMillis > 0 ? ", weatherDelay=" + weatherDelayMillis + "ms" : "")
+                + (serverThreads > 0 ? ", serverThreads=" + serverThreads : "")
+                + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.perf;
+
+// 부하 테스트가 호출하는 API 와 기본 비율 (%)
+// 실제 서비스처럼 조회가 쓰기보다 많도록 잡았다, --mix=LIST_TODOS=50,CREATE_TODO=50 으로 바꿀 수 있다
+enum Operation {
+    CREATE_TODO("POST", "/todos", 10),
+    LIST_TODOS("GET", "/todos", 30),
+    GET_TODO("GET", "/todos/{todoId}", 25),
+    CREATE_COMMENT("POST", "/todos/{todoId}/comments", 10),
+    LIST_COMMENTS("GET", "/todos/{todoId}/comments", 15),
+    CREATE_MANAGER("POST", "/todos/{todoId}/managers", 5),
+    LIST_MANAGERS("GET", "/todos/{todoId}/managers", 5);
+
+    final String method;
+    final String pattern;
+    final int defaultWeight;
+
+    Operation(String method, String pattern, int defaultWeight) {
+        this.method = method;
+        this.pattern = pattern;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String endpoint() {
+        return method + " " + pattern;
+    }
+}
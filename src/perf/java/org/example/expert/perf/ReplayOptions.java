@@ -0,0 +1,51 @@
+package org.example.expert.perf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// --name=value 형식의 인자 (./gradlew replayTraffic -PreplayArgs="--capture=logs/traffic/capture-1.bin --speed=2")
+class ReplayOptions {
+
+    String capture;
+    // 1 이면 캡처한 도착 간격 그대로, 2 면 두 배 빠르게 보낸다
+    double speed = 1.0;
+    // 캡처 시작 후 이 시간 동안의 요청은 보내기만 하고 집계하지 않는다
+    int warmupSeconds = 10;
+    int maxInFlight = 5_000;
+    int bcryptCost = 4;
+    // 캡처한 userId 가 있어야 하므로 seedData 로 만든 DB 를 복사해서 사용한다 (재생한 쓰기 요청이 남는다)
+    String database = "./build/perf/replay";
+    String report = "build/perf/replay-report.json";
+
+    static ReplayOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--name=value 형식이어야 합니다 : " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        ReplayOptions options = new ReplayOptions();
+        options.capture = values.get("capture");
+        if (options.capture == null) {
+            throw new IllegalArgumentException("--capture=<캡처 파일> 이 필요합니다.");
+        }
+        options.speed = Double.parseDouble(values.getOrDefault("speed", String.valueOf(options.speed)));
+        if (options.speed <= 0) {
+            throw new IllegalArgumentException("--speed 는 0 보다 커야 합니다 : " + options.speed);
+        }
+        options.warmupSeconds = Integer.parseInt(values.getOrDefault("warmup", String.valueOf(options.warmupSeconds)));
+        options.maxInFlight = Integer.parseInt(values.getOrDefault("maxInFlight", String.valueOf(options.maxInFlight)));
+        options.bcryptCost = Integer.parseInt(values.getOrDefault("bcryptCost", String.valueOf(options.bcryptCost)));
+        options.database = values.getOrDefault("database", options.database);
+        options.report = values.getOrDefault("report", options.report);
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return "capture=" + capture + ", speed=" + speed + "x, warmup=" + warmupSeconds + "s, database=" + database
+                + ", bcryptCost=" + bcryptCost;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// 두 빌드의 결과 파일 (TrafficReplay, LoadTest) 을 endpoint 별로 비교한다 (./gradlew replayDiff)
+// p99 가 threshold 이상 늘었거나 오류율이 늘어난 endpoint 가 있으면 종료 코드 1
+// 사용법 : ReportDiff <기준 결과> <비교할 결과> [threshold, 기본 0.1]
+public class ReportDiff {
+
+    private static final String[] PERCENTILES = {"p50Millis", "p99Millis", "p999Millis"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("사용법 : ReportDiff <기준 결과> <비교할 결과> [threshold]");
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+        int regressions = compare(args[0], args[1], threshold);
+        if (regressions > 0) {
+            System.out.printf("%n기준 결과보다 나빠진 endpoint 가 %d 개 있습니다.%n", regressions);
+            System.exit(1);
+        }
+    }
+
+    // 비교 결과를 출력하고 나빠진 endpoint 수를 반환한다
+    static int compare(String baselinePath, String candidatePath, double threshold) throws IOException {
+        return compare(baselinePath, candidatePath, threshold, endpoint -> true);
+    }
+
+    // endpoints 에 해당하는 endpoint ("GET /todos") 만 비교한다
+    static int compare(String baselinePath, String candidatePath, double threshold,
+                       Predicate<String> endpoints) throws IOException {
+        Map<String, JsonNode> baseline = endpoints(baselinePath);
+        Map<String, JsonNode> candidate = endpoints(candidatePath);
+        baseline.keySet().removeIf(endpoints.negate());
+        candidate.keySet().removeIf(endpoints.negate());
+
+        System.out.printf("%-10s %-40s %8s %21s %21s %21s %17s%n",
+                "", "endpoint", "count", "p50(ms)", "p99(ms)", "p999(ms)", "errors");
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-10s %-40s %8d%n", "NEW", entry.getKey(), after.get("count").asLong());
+                continue;
+            }
+
+            double p99Change = change(before.get("p99Millis").asDouble(), after.get("p99Millis").asDouble());
+            double errorsBefore = before.get("errorRate").asDouble();
+            double errorsAfter = after.get("errorRate").asDouble();
+            boolean regressed = p99Change > threshold || errorsAfter > errorsBefore + 0.001;
+            if (regressed) {
+                regressions++;
+            }
+
+            StringBuilder line = new StringBuilder(String.format("%-10s %-40s %8d", regressed ? "REGRESSED" : "OK",
+                    entry.getKey(), after.get("count").asLong()));
+            for (String percentile : PERCENTILES) {
+                double previous = before.get(percentile).asDouble();
+                double current = after.get(percentile).asDouble();
+                line.append(String.format(" %7.2f->%7.2f%+5.0f%%", previous, current, change(previous, current) * 100));
+            }
+            line.append(String.format(" %6.2f%%->%6.2f%%", errorsBefore * 100, errorsAfter * 100));
+            System.out.println(line);
+        }
+        baseline.keySet().stream()
+                .filter(endpoint -> !candidate.containsKey(endpoint))
+                .forEach(endpoint -> System.out.printf("%-10s %s%n", "MISSING", endpoint));
+        return regressions;
+    }
+
+    private static Map<String, JsonNode> endpoints(String path) throws IOException {
+        Map<String, JsonNode> endpoints = new LinkedHashMap<>();
+        for (JsonNode endpoint : new ObjectMapper().readTree(Paths.get(path).toFile()).get("endpoints")) {
+            endpoints.put(endpoint.get("endpoint").asText(), endpoint);
+        }
+        return endpoints;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.perf;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// 느린 쓰기가 조회 지연 시간에 영향을 주지 않는지 확인한다 (./gradlew loadTestSlowWrites)
+// 같은 부하를 날씨 API 지연 없이 한 번, 지연을 주고 한 번 측정해서 GET endpoint 만 비교한다
+// 일정 등록이 Tomcat 스레드를 붙잡으면 작은 스레드 풀 (기본 16) 이 금방 차서 조회까지 기다리게 된다
+// 인자는 LoadTest 와 같다 (--weatherDelay 는 두 번째 측정에만, --report 는 무시한다)
+public class SlowWriteIsolation {
+
+    private static final String FAST_REPORT = "build/perf/loadtest-fast-writes.json";
+    private static final String SLOW_REPORT = "build/perf/loadtest-slow-writes.json";
+    private static final double READ_THRESHOLD = 0.2;
+
+    public static void main(String[] args) throws Exception {
+        String[] shared = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--weatherDelay=") && !arg.startsWith("--report="))
+                .toArray(String[]::new);
+        if (Arrays.stream(shared).noneMatch(arg -> arg.startsWith("--serverThreads="))) {
+            shared = append(shared, "--serverThreads=16");
+        }
+        String weatherDelay = Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--weatherDelay="))
+                .findFirst()
+                .orElse("--weatherDelay=1000");
+
+        LoadTest.run(LoadTestOptions.parse(append(shared, "--report=" + FAST_REPORT)));
+        LoadTest.run(LoadTestOptions.parse(append(append(shared, weatherDelay), "--report=" + SLOW_REPORT)));
+
+        System.out.println();
+        System.out.println("fast writes -> slow writes (GET)");
+        int regressions = ReportDiff.compare(FAST_REPORT, SLOW_REPORT, READ_THRESHOLD,
+                endpoint -> endpoint.startsWith("GET "));
+        if (regressions > 0) {
+            System.out.printf("%n느린 쓰기 때문에 조회가 느려진 endpoint 가 %d 개 있습니다.%n", regressions);
+            System.exit(1);
+        }
+    }
+
+    private static String[] append(String[] args, String arg) {
+        return Stream.concat(Arrays.stream(args), Stream.of(arg)).toArray(String[]::new);
+    }
+}
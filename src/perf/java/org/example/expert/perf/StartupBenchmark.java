@@ -0,0 +1,217 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 애플리케이션을 새 JVM 으로 여러 번 띄워서 첫 요청까지의 시간과 그 시점의 RSS 를 잰다 (./gradlew startupBenchmark)
+// default      : 기본 설정
+// startup      : application-startup.yml (자동 설정 제외, 일부 bean 지연 생성, JPA 백그라운드 초기화)
+// startup+cds  : startup + AppCDS 아카이브 (./gradlew appCdsArchive)
+// 첫 요청은 회원가입 (필터, 컨트롤러, bcrypt, JPA insert 를 모두 거친다), 200 을 받을 때까지 10ms 마다 다시 보낸다
+// RSS 는 /proc/<pid>/status 의 VmRSS 이므로 리눅스에서만 나온다
+// 사용법 : StartupBenchmark --jar=<풀어둔 application jar> --archive=<jsa> [--runs=5] [--report=build/perf/startup-report.json]
+public class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final Path jar;
+    private final Path archive;
+    private final Path logDirectory = Paths.get("build/perf/startup");
+
+    private StartupBenchmark(Path jar, Path archive) {
+        this.jar = jar;
+        this.archive = archive;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--name=value 형식이어야 합니다 : " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        if (!options.containsKey("jar")) {
+            throw new IllegalArgumentException("사용법 : StartupBenchmark --jar=<application jar> --archive=<jsa> [--runs=5]");
+        }
+        Path jar = Paths.get(options.get("jar"));
+        Path archive = options.containsKey("archive") ? Paths.get(options.get("archive")) : null;
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path report = Paths.get(options.getOrDefault("report", "build/perf/startup-report.json"));
+
+        new StartupBenchmark(jar, archive).run(runs, report);
+    }
+
+    private void run(int runs, Path report) throws Exception {
+        Files.createDirectories(logDirectory);
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        variants.put("startup", List.of("--spring.profiles.active=startup"));
+        if (archive != null && Files.exists(archive)) {
+            variants.put("startup+cds", List.of("-XX:SharedArchiveFile=" + archive, "--spring.profiles.active=startup"));
+        } else {
+            System.out.println("AppCDS 아카이브가 없어서 startup+cds 는 건너뜁니다. (./gradlew appCdsArchive)");
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] firstRequestMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            // 첫 실행은 OS 파일 캐시를 채우는 용도로 버린다
+            measure(variant.getKey(), variant.getValue(), -1);
+            for (int i = 0; i < runs; i++) {
+                long[] sample = measure(variant.getKey(), variant.getValue(), i);
+                firstRequestMillis[i] = sample[0];
+                rssKb[i] = sample[1];
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("variant", variant.getKey());
+            result.put("runs", runs);
+            result.put("firstRequestMillisMedian", median(firstRequestMillis));
+            result.put("firstRequestMillisMin", min(firstRequestMillis));
+            result.put("rssMbMedian", median(rssKb) / 1024);
+            results.add(result);
+        }
+
+        print(results);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(report.toFile(), Map.of("jar", jar.toString(), "variants", results));
+        System.out.println("report : " + report.toAbsolutePath());
+    }
+
+    // {첫 요청까지 ms, 그 시점의 RSS kB}
+    private long[] measure(String variant, List<String> variantArgs, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        variantArgs.stream().filter(arg -> arg.startsWith("-X")).forEach(command::add);
+        command.add("-jar");
+        command.add(jar.toString());
+        variantArgs.stream().filter(arg -> arg.startsWith("--")).forEach(command::add);
+        command.add("--server.port=" + port);
+        // 외부 DB 없이 뜨도록 메모리 H2 를 쓴다 (스키마 생성까지 기동 시간에 포함)
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        command.add("--jwt.secret.key=" + randomSecret());
+
+        Path log = logDirectory.resolve(variant.replace('+', '-') + "-" + (run < 0 ? "warmup" : run) + ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitFirstRequest(process, port, log);
+            long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new long[]{firstRequestMillis, rssKb(process.pid())};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstRequest(Process process, int port, Path log) throws Exception {
+        HttpRequest signup = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/auth/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"startup@example.com\",\"password\":\"Password1234\",\"userRole\":\"USER\"}"))
+                .build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다. 로그 : " + log.toAbsolutePath());
+            }
+            try {
+                HttpResponse<String> response = httpClient.send(signup, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+                throw new IllegalStateException("첫 요청이 실패했습니다 : " + response.statusCode() + " " + response.body());
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException(TIMEOUT.toSeconds() + "초 안에 기동하지 않았습니다. 로그 : " + log.toAbsolutePath());
+    }
+
+    private static long rssKb(long pid) {
+        Path status = Paths.get("/proc/" + pid + "/status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException ignored) {
+            // 리눅스가 아니면 RSS 를 알 수 없다
+        }
+        return 0;
+    }
+
+    private static void print(List<Map<String, Object>> results) {
+        Map<String, Object> baseline = results.get(0);
+        System.out.printf("%n%-14s %22s %12s %10s%n", "variant", "first request (ms)", "min (ms)", "RSS (MB)");
+        for (Map<String, Object> result : results) {
+            System.out.printf("%-14s %10d (%+6.1f%%) %12d %10d%n",
+                    result.get("variant"),
+                    (long) result.get("firstRequestMillisMedian"),
+                    change((long) baseline.get("firstRequestMillisMedian"), (long) result.get("firstRequestMillisMedian")),
+                    (long) result.get("firstRequestMillisMin"),
+                    (long) result.get("rssMbMedian"));
+        }
+    }
+
+    private static double change(long before, long after) {
+        return before == 0 ? 0 : (after - before) * 100.0 / before;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long min(long[] values) {
+        return Arrays.stream(values).min().orElse(0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
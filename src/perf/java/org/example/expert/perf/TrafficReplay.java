@@ -0,0 +1,218 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.capture.CaptureFormat;
+import org.example.expert.capture.CapturedRequest;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// 캡처 파일 (TrafficCaptureFilter) 의 요청을 같은 도착 간격으로 다시 보내는 도구 (./gradlew replayTraffic)
+// 1. 날씨 API stub 과 H2 파일 DB 로 애플리케이션 시작
+// 2. 캡처한 userId, userRole 로 JwtUtil 에서 새 토큰을 발급
+// 3. offsetMicros / speed 시각에 요청을 보내고 endpoint 별 p50/p99/p999 를 LoadTest 와 같은 형식으로 남긴다
+// 두 빌드의 결과 파일은 ReportDiff (./gradlew replayDiff) 로 비교한다
+public class TrafficReplay {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // 토큰 유효 시간 (60분) 안에 다시 발급한다
+    private static final long TOKEN_REFRESH_NANOS = TimeUnit.MINUTES.toNanos(30);
+    // HttpClient 가 직접 정하는 헤더는 캡처에 있더라도 보내지 않는다
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Authorization", "Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final ReplayOptions options;
+    private final URI baseUri;
+    private final JwtUtil jwtUtil;
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(8, runnable -> {
+        Thread thread = new Thread(runnable, "replay-client");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(clientExecutor)
+            .build();
+    private final Semaphore inFlight;
+    // 요청 보내는 스레드에서만 사용한다
+    private final Map<Long, MintedToken> tokens = new HashMap<>();
+    private final Map<String, EndpointStats> stats = new TreeMap<>();
+    // 캡처 당시와 다른 상태 코드를 받은 요청 (DB 상태가 캡처 환경과 다르다는 뜻)
+    private final LongAdder statusMismatches = new LongAdder();
+    private long skipped;
+
+    TrafficReplay(ReplayOptions options, URI baseUri, JwtUtil jwtUtil) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.jwtUtil = jwtUtil;
+        this.inFlight = new Semaphore(options.maxInFlight);
+    }
+
+    public static void main(String[] args) throws Exception {
+        ReplayOptions options = ReplayOptions.parse(args);
+        System.out.println("replay : " + options);
+
+        List<CapturedRequest> requests = CaptureFormat.readAll(Paths.get(options.capture));
+        System.out.printf("captured %d requests%n", requests.size());
+
+        Map<String, Object> overrides = Map.of("security.bcrypt.cost", options.bcryptCost);
+        try (WeatherStub weatherStub = WeatherStub.start();
+             EmbeddedApplication application = EmbeddedApplication.start(options.database, weatherStub.url(), overrides)) {
+            new TrafficReplay(options, application.baseUri(), application.getBean(JwtUtil.class)).run(requests);
+        }
+    }
+
+    void run(List<CapturedRequest> requests) throws Exception {
+        if (requests.isEmpty()) {
+            return;
+        }
+        long warmupMicros = TimeUnit.SECONDS.toMicros(options.warmupSeconds);
+        long firstOffset = requests.get(0).getOffsetMicros();
+        long start = System.nanoTime();
+        long measureStart = 0;
+
+        for (CapturedRequest captured : requests) {
+            long offsetNanos = (long) (TimeUnit.MICROSECONDS.toNanos(captured.getOffsetMicros() - firstOffset) / options.speed);
+            long intendedStart = start + offsetNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = captured.getOffsetMicros() - firstOffset >= warmupMicros;
+            if (measured && measureStart == 0) {
+                measureStart = intendedStart;
+            }
+            if (captured.isBodyTruncated()) {
+                skipped++;
+                continue;
+            }
+            EndpointStats endpointStats = measured
+                    ? stats.computeIfAbsent(endpoint(captured), EndpointStats::new)
+                    : new EndpointStats(endpoint(captured));
+            if (!inFlight.tryAcquire()) {
+                endpointStats.dropped();
+                continue;
+            }
+
+            httpClient.sendAsync(request(captured), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                inFlight.release();
+                int status = error == null ? response.statusCode() : -1;
+                endpointStats.record(System.nanoTime() - intendedStart, status);
+                if (status != captured.getStatus()) {
+                    statusMismatches.increment();
+                }
+            });
+        }
+
+        // 남은 요청이 끝날 때까지 기다린다
+        if (inFlight.tryAcquire(options.maxInFlight, REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            inFlight.release(options.maxInFlight);
+        }
+        double seconds = measureStart == 0 ? 0 : (System.nanoTime() - measureStart) / 1e9;
+        report(requests.size(), seconds);
+        clientExecutor.shutdownNow();
+    }
+
+    private HttpRequest request(CapturedRequest captured) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(captured.getUri()))
+                .timeout(REQUEST_TIMEOUT)
+                .method(captured.getMethod(), captured.getBody() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(captured.getBody()));
+        captured.getHeaders().forEach((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.header(name, value);
+            }
+        });
+        if (captured.getUserId() != null) {
+            builder.header("Authorization", token(captured.getUserId(), captured.getUserRole()));
+        }
+        return builder.build();
+    }
+
+    // 캡처에는 email 이 없으므로 userId 로 만든 값을 넣는다
+    private String token(long userId, String userRole) {
+        MintedToken minted = tokens.get(userId);
+        long now = System.nanoTime();
+        if (minted == null || now - minted.mintedAt() > TOKEN_REFRESH_NANOS) {
+            UserRole role = userRole == null ? UserRole.USER : UserRole.of(userRole);
+            minted = new MintedToken(jwtUtil.createToken(userId, "replay-" + userId + "@example.com", role), now);
+            tokens.put(userId, minted);
+        }
+        return minted.token();
+    }
+
+    // /todos/12/comments -> GET /todos/{id}/comments
+    static String endpoint(CapturedRequest captured) {
+        String uri = captured.getUri();
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        StringBuilder endpoint = new StringBuilder(captured.getMethod()).append(' ');
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            endpoint.append('/').append(segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+        }
+        return path.equals("/") ? endpoint.append('/').toString() : endpoint.toString();
+    }
+
+    private void report(int captured, double seconds) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        System.out.printf("%n%-40s %8s %9s %9s %9s %9s %8s %8s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "4xx", "errors", "dropped");
+        for (EndpointStats endpointStats : stats.values()) {
+            Map<String, Object> report = endpointStats.report(seconds);
+            endpoints.add(report);
+            System.out.printf("%-40s %8d %9.1f %9.2f %9.2f %9.2f %7.2f%% %7.2f%% %8d%n",
+                    report.get("endpoint"), report.get("count"), report.get("throughput"),
+                    report.get("p50Millis"), report.get("p99Millis"), report.get("p999Millis"),
+                    (double) report.get("clientErrorRate") * 100, (double) report.get("errorRate") * 100, report.get("dropped"));
+        }
+        System.out.printf("skipped (truncated body) %d, status mismatches %d%n", skipped, statusMismatches.sum());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options.toString());
+        result.put("seconds", seconds);
+        result.put("captured", captured);
+        result.put("skipped", skipped);
+        result.put("statusMismatches", statusMismatches.sum());
+        result.put("endpoints", endpoints);
+        Path path = Paths.get(options.report);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), result);
+        System.out.println("report : " + path.toAbsolutePath());
+    }
+
+    private record MintedToken(String token, long mintedAt) {
+    }
+}
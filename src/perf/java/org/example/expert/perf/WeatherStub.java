@@ -0,0 +1,70 @@
+package org.example.expert.perf;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+
+// 외부 날씨 API (f-api.github.io) 대신 응답하는 로컬 서버
+// 외부 네트워크 지연이 측정에 섞이지 않도록 오늘 날짜가 포함된 고정 응답을 돌려준다
+// delayMillis 를 주면 느린 외부 API 를 흉내 낸다 (응답마다 가상 스레드 하나가 기다린다)
+public class WeatherStub implements AutoCloseable {
+
+    static final String PATH = "/f-api/weather.json";
+
+    private final HttpServer server;
+
+    private WeatherStub(HttpServer server) {
+        this.server = server;
+    }
+
+    public static WeatherStub start() throws IOException {
+        return start(0);
+    }
+
+    public static WeatherStub start(long delayMillis) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PATH, exchange -> {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = body();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return new WeatherStub(server);
+    }
+
+    // WeatherClient 의 weather.api.url
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // 자정을 넘겨도 동작하도록 요청마다 오늘 날짜로 만든다
+    private static byte[] body() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        LocalDate today = LocalDate.now();
+        return ("[{\"date\":\"" + today.minusDays(1).format(formatter) + "\",\"weather\":\"Cloudy\"},"
+                + "{\"date\":\"" + today.format(formatter) + "\",\"weather\":\"Sunny\"}]")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,414 @@
+package org.example.expert.perf.seed;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.perf.EmbeddedApplication;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+// 성능 측정용 대량 데이터 생성기 (./gradlew seedData -PseedArgs="--comments=10000000")
+// JPA 를 거치지 않고 id 를 직접 정해서 여러 행짜리 INSERT 를 배치로 병렬 실행한다
+// - 유저별 일정 수 : Zipf (소수의 유저가 대부분의 일정을 가진다)
+// - 일정별 댓글 수 : Zipf (꼬리가 긴 분포, 일부 일정에 댓글이 몰린다)
+// - 담당자 : 일정마다 작성자 1명 (Todo 생성자와 동일) + 20% 의 일정에 1~3명 추가
+// 청크 단위로 seed 를 나누므로 스레드 수와 상관없이 같은 seed 면 같은 데이터가 만들어진다
+// 유저 email 은 seed{id}@example.com, 비밀번호는 Password{id % passwords} 이다
+public class DataSeeder {
+
+    private static final int CHUNK_ROWS = 50_000;
+    // 2026-01-01 부터 1년 사이의 작성 시각 (실행 시각과 무관하게 재현되도록 고정)
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final long TIME_RANGE_SECONDS = 365L * 24 * 60 * 60;
+
+    private final Options options;
+    private final TextGenerator text;
+    private final ZipfSampler todoOwners;
+    private final ZipfSampler commentTodos;
+    private final long userMultiplier;
+    private final long todoMultiplier;
+    private String[] passwordHashes;
+
+    DataSeeder(Options options) {
+        this.options = options;
+        this.text = new TextGenerator(options.seed);
+        this.todoOwners = new ZipfSampler(options.users, options.todoSkew);
+        this.commentTodos = new ZipfSampler(options.todos, options.commentSkew);
+        this.userMultiplier = coprimeMultiplier(options.users);
+        this.todoMultiplier = coprimeMultiplier(options.todos);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        System.out.println("seed : " + options);
+
+        if (options.createSchema) {
+            // 스키마는 엔티티 기준으로 Hibernate 가 만든다
+            try (EmbeddedApplication ignored = EmbeddedApplication.start(options.database, "http://127.0.0.1:1",
+                    Map.of("spring.jpa.hibernate.ddl-auto", "create"))) {
+                System.out.println("schema created");
+            }
+        }
+        new DataSeeder(options).run();
+    }
+
+    void run() throws Exception {
+        long start = System.nanoTime();
+        hashPasswords();
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        try (Connection connection = connect()) {
+            boolean h2 = connection.getMetaData().getDatabaseProductName().equals("H2");
+            if (h2) {
+                // H2 는 세션 단위로 끌 수 없으므로 적재하는 동안만 전체를 끈다
+                execute(connection, "SET REFERENTIAL_INTEGRITY FALSE");
+            }
+            try {
+                load(executor, "users", "id, email, password, user_role, created_at, modified_at",
+                        options.users, this::userRows);
+                load(executor, "todos", "id, title, contents, weather, user_id, created_at, modified_at",
+                        options.todos, this::todoRows);
+                load(executor, "managers", "id, user_id, todo_id",
+                        options.todos, this::managerRows);
+                load(executor, "comments", "id, contents, user_id, todo_id, created_at, modified_at",
+                        options.comments, this::commentRows);
+            } finally {
+                if (h2) {
+                    execute(connection, "SET REFERENTIAL_INTEGRITY TRUE");
+                }
+            }
+            restartIdentities(connection, h2);
+        } finally {
+            executor.shutdown();
+        }
+        System.out.printf("done in %.1fs%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    // 서로 다른 비밀번호마다 한 번만 해싱한다
+    private void hashPasswords() {
+        passwordHashes = IntStream.range(0, options.passwords).parallel()
+                .mapToObj(i -> BCrypt.withDefaults().hashToString(options.bcryptCost, password(i).toCharArray()))
+                .toArray(String[]::new);
+    }
+
+    static String password(long index) {
+        return "Password" + index;
+    }
+
+    // 청크 하나가 만드는 행 (rows 는 firstId 부터 연속된 id)
+    private interface RowGenerator {
+        void generate(long chunk, long firstId, int count, RowWriter writer) throws SQLException;
+    }
+
+    private void load(ExecutorService executor, String table, String columns, long total, RowGenerator generator) throws Exception {
+        long start = System.nanoTime();
+        int columnCount = columns.split(",").length;
+        AtomicLong rows = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long chunk = 0; chunk * CHUNK_ROWS < total; chunk++) {
+            long chunkIndex = chunk;
+            long firstId = chunk * CHUNK_ROWS + 1;
+            int count = (int) Math.min(CHUNK_ROWS, total - chunk * CHUNK_ROWS);
+            futures.add(executor.submit(() -> {
+                try (Connection connection = connect();
+                     RowWriter writer = new RowWriter(connection, table, columns, columnCount, options.rowsPerStatement, options.batchStatements)) {
+                    connection.setAutoCommit(false);
+                    generator.generate(chunkIndex, firstId, count, writer);
+                    writer.flush();
+                    connection.commit();
+                    rows.addAndGet(writer.rows());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-9s %,12d rows %7.1fs %,10.0f rows/s%n", table, rows.get(), seconds, rows.get() / seconds);
+    }
+
+    private void userRows(long chunk, long firstId, int count, RowWriter writer) throws SQLException {
+        SplittableRandom random = random(1, chunk);
+        for (long id = firstId; id < firstId + count; id++) {
+            Timestamp createdAt = timestamp(random);
+            writer.row(id, "seed" + id + "@example.com", passwordHashes[(int) (id % options.passwords)],
+                    id % 1000 == 0 ? "ADMIN" : "USER", createdAt, createdAt);
+        }
+    }
+
+    private void todoRows(long chunk, long firstId, int count, RowWriter writer) throws SQLException {
+        SplittableRandom random = random(2, chunk);
+        for (long id = firstId; id < firstId + count; id++) {
+            Timestamp createdAt = timestamp(random);
+            writer.row(id, text.next(random, 15, 0.5, 60), text.next(random, 60, 0.8, 255), "Sunny",
+                    owner(id), createdAt, modifiedAt(random, createdAt));
+        }
+    }
+
+    // managers 는 행 수가 정해져 있지 않으므로 todo id 구간을 나눠서 만들고 id 는 구간 안에서 매긴다
+    private void managerRows(long chunk, long firstTodoId, int count, RowWriter writer) throws SQLException {
+        SplittableRandom random = random(3, chunk);
+        // 일정 하나당 최대 4명이므로 구간마다 id 4 * CHUNK_ROWS 개를 예약한다
+        long id = chunk * CHUNK_ROWS * 4L + 1;
+        for (long todoId = firstTodoId; todoId < firstTodoId + count; todoId++) {
+            long owner = owner(todoId);
+            writer.row(id++, owner, todoId);
+            if (random.nextInt(100) < 20) {
+                long[] added = new long[1 + random.nextInt(3)];
+                for (int i = 0; i < added.length; i++) {
+                    long userId = 1 + random.nextLong(options.users);
+                    if (userId != owner && !contains(added, userId)) {
+                        added[i] = userId;
+                        writer.row(id++, userId, todoId);
+                    }
+                }
+            }
+        }
+    }
+
+    private void commentRows(long chunk, long firstId, int count, RowWriter writer) throws SQLException {
+        SplittableRandom random = random(4, chunk);
+        for (long id = firstId; id < firstId + count; id++) {
+            Timestamp createdAt = timestamp(random);
+            writer.row(id, text.next(random, 30, 0.9, 255), 1 + random.nextLong(options.users),
+                    spread(commentTodos.sample(random), todoMultiplier, options.todos), createdAt, modifiedAt(random, createdAt));
+        }
+    }
+
+    // 일정 작성자는 todo id 로 정해지므로 managers 를 만들 때 다시 계산할 수 있다
+    private long owner(long todoId) {
+        return spread(todoOwners.sample(new SplittableRandom(options.seed * 31 + todoId)), userMultiplier, options.users);
+    }
+
+    // Zipf 의 순위 1, 2, 3 ... 이 id 1, 2, 3 에 몰리지 않도록 순위를 id 공간에 흩어 놓는다
+    // n 과 서로소인 큰 수를 곱하는 순열이므로 서로 다른 순위는 서로 다른 id 가 된다
+    private static long spread(long rank, long multiplier, long n) {
+        return Math.floorMod((rank - 1) * multiplier, n) + 1;
+    }
+
+    private static long coprimeMultiplier(long n) {
+        long multiplier = 2_654_435_761L;
+        while (gcd(multiplier, n) != 1) {
+            multiplier++;
+        }
+        return multiplier;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SplittableRandom random(int table, long chunk) {
+        return new SplittableRandom(options.seed * 1_000_003L + table * 7_919L + chunk);
+    }
+
+    private static Timestamp timestamp(SplittableRandom random) {
+        return Timestamp.valueOf(BASE_TIME.plusSeconds(random.nextLong(TIME_RANGE_SECONDS)));
+    }
+
+    // 절반은 수정되지 않은 글이다
+    private static Timestamp modifiedAt(SplittableRandom random, Timestamp createdAt) {
+        if (random.nextBoolean()) {
+            return createdAt;
+        }
+        return Timestamp.valueOf(createdAt.toLocalDateTime().plusSeconds(random.nextLong(30L * 24 * 60 * 60)));
+    }
+
+    // 이후 애플리케이션이 insert 할 때 id 가 겹치지 않도록 시퀀스를 옮긴다
+    private void restartIdentities(Connection connection, boolean h2) throws SQLException {
+        for (String table : new String[]{"users", "todos", "managers", "comments"}) {
+            long next;
+            try (Statement statement = connection.createStatement();
+                 var resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                resultSet.next();
+                next = resultSet.getLong(1);
+            }
+            execute(connection, h2
+                    ? "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next
+                    : "ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(options.jdbcUrl(), options.username, options.password);
+        if (!connection.getMetaData().getDatabaseProductName().equals("H2")) {
+            execute(connection, "SET FOREIGN_KEY_CHECKS = 0");
+            execute(connection, "SET UNIQUE_CHECKS = 0");
+        }
+        return connection;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // INSERT INTO t (...) VALUES (?, ...), (?, ...) 를 rowsPerStatement 행씩 묶고 batchStatements 개마다 실행한다
+    private static final class RowWriter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final String columns;
+        private final int columnCount;
+        private final int rowsPerStatement;
+        private final int batchStatements;
+        private final PreparedStatement statement;
+        private final Object[] pending;
+        private int pendingRows;
+        private int batched;
+        private long rows;
+
+        private RowWriter(Connection connection, String table, String columns, int columnCount,
+                          int rowsPerStatement, int batchStatements) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.columnCount = columnCount;
+            this.rowsPerStatement = rowsPerStatement;
+            this.batchStatements = batchStatements;
+            this.statement = connection.prepareStatement(insert(rowsPerStatement));
+            this.pending = new Object[rowsPerStatement * columnCount];
+        }
+
+        void row(Object... values) throws SQLException {
+            System.arraycopy(values, 0, pending, pendingRows * columnCount, columnCount);
+            pendingRows++;
+            rows++;
+            if (pendingRows == rowsPerStatement) {
+                bind(statement, pendingRows);
+                statement.addBatch();
+                pendingRows = 0;
+                if (++batched == batchStatements) {
+                    statement.executeBatch();
+                    batched = 0;
+                }
+            }
+        }
+
+        // 남은 배치와 rowsPerStatement 보다 적게 남은 행을 실행한다
+        void flush() throws SQLException {
+            if (batched > 0) {
+                statement.executeBatch();
+                batched = 0;
+            }
+            if (pendingRows > 0) {
+                try (PreparedStatement last = connection.prepareStatement(insert(pendingRows))) {
+                    bind(last, pendingRows);
+                    last.executeUpdate();
+                }
+                pendingRows = 0;
+            }
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        private void bind(PreparedStatement target, int rowCount) throws SQLException {
+            for (int i = 0; i < rowCount * columnCount; i++) {
+                target.setObject(i + 1, pending[i]);
+            }
+        }
+
+        private String insert(int rowCount) {
+            String placeholders = "(" + "?,".repeat(columnCount - 1) + "?)";
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+            for (int i = 0; i < rowCount; i++) {
+                sql.append(i == 0 ? "" : ",").append(placeholders);
+            }
+            return sql.toString();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+
+    // --name=value 형식의 인자
+    static final class Options {
+
+        long users = 100_000;
+        long todos = 1_000_000;
+        long comments = 10_000_000;
+        double todoSkew = 1.0;
+        double commentSkew = 0.8;
+        int passwords = 100;
+        int bcryptCost = 10;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int rowsPerStatement = 100;
+        int batchStatements = 20;
+        long seed = 42;
+        boolean createSchema = true;
+        String database = "./build/perf/loadtest";
+        // MySQL 등 다른 DB 에 적재할 때 (지정하면 database 는 무시하고 스키마도 만들지 않는다)
+        String url;
+        String username = "sa";
+        String password = "";
+
+        String jdbcUrl() {
+            return url != null ? url : "jdbc:h2:file:" + database + ";MODE=MySQL;AUTO_SERVER=TRUE";
+        }
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("--name=value 형식이어야 합니다 : " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+
+            Options options = new Options();
+            options.users = Long.parseLong(values.getOrDefault("users", String.valueOf(options.users)));
+            options.todos = Long.parseLong(values.getOrDefault("todos", String.valueOf(options.todos)));
+            options.comments = Long.parseLong(values.getOrDefault("comments", String.valueOf(options.comments)));
+            options.todoSkew = Double.parseDouble(values.getOrDefault("todoSkew", String.valueOf(options.todoSkew)));
+            options.commentSkew = Double.parseDouble(values.getOrDefault("commentSkew", String.valueOf(options.commentSkew)));
+            options.passwords = Integer.parseInt(values.getOrDefault("passwords", String.valueOf(options.passwords)));
+            options.bcryptCost = Integer.parseInt(values.getOrDefault("bcryptCost", String.valueOf(options.bcryptCost)));
+            options.threads = Integer.parseInt(values.getOrDefault("threads", String.valueOf(options.threads)));
+            options.rowsPerStatement = Integer.parseInt(values.getOrDefault("rowsPerStatement", String.valueOf(options.rowsPerStatement)));
+            options.batchStatements = Integer.parseInt(values.getOrDefault("batchStatements", String.valueOf(options.batchStatements)));
+            options.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(options.seed)));
+            options.database = values.getOrDefault("database", options.database);
+            options.url = values.get("url");
+            options.username = values.getOrDefault("username", options.username);
+            options.password = values.getOrDefault("password", options.password);
+            options.createSchema = options.url == null
+                    && Boolean.parseBoolean(values.getOrDefault("createSchema", String.valueOf(options.createSchema)));
+            return options;
+        }
+
+        @Override
+        public String toString() {
+            return "users=" + users + ", todos=" + todos + ", comments=" + comments + ", todoSkew=" + todoSkew
+                    + ", commentSkew=" + commentSkew + ", threads=" + threads + ", seed=" + seed + ", url=" + jdbcUrl();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.perf.seed;
+
+import java.util.SplittableRandom;
+
+// 제목, 내용, 댓글 본문 (길이는 로그 정규 분포, 실제 게시판 글처럼 짧은 글이 많고 가끔 긴 글이 있다)
+// 미리 만든 단어 나열에서 잘라 쓰므로 행마다 문자열 조립 비용이 거의 없다
+final class TextGenerator {
+
+    private static final String[] WORDS = {
+            "회의", "정리", "배포", "점검", "코드", "리뷰", "일정", "확인", "수정", "작업", "테스트", "문서",
+            "meeting", "deploy", "review", "fix", "update", "todo", "check", "release", "plan", "sync",
+            "오늘", "내일", "이번주", "다음주", "까지", "완료", "진행", "요청", "공유", "논의", "the", "and", "for"
+    };
+    private static final int CORPUS_LENGTH = 1 << 16;
+    // 컬럼이 VARCHAR(255) 이므로 이보다 긴 글은 만들지 않는다
+    static final int MAX_LENGTH = 255;
+
+    private final String corpus;
+
+    TextGenerator(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder builder = new StringBuilder(CORPUS_LENGTH + 4096);
+        while (builder.length() < CORPUS_LENGTH + 4096) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        this.corpus = builder.toString();
+    }
+
+    // median 근처에 몰리고 max 에서 자른다 (sigma 가 클수록 꼬리가 길다)
+    String next(SplittableRandom random, int median, double sigma, int max) {
+        int length = (int) Math.round(median * Math.exp(sigma * gaussian(random)));
+        length = Math.max(1, Math.min(Math.min(max, MAX_LENGTH), length));
+        int offset = random.nextInt(CORPUS_LENGTH);
+        String text = corpus.substring(offset, offset + length).strip();
+        return text.isEmpty() ? WORDS[0] : text;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller, SplittableRandom 에는 nextGaussian 이 없다 (Java 17)
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
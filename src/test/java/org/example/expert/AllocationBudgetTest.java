@@ -0,0 +1,86 @@
+package org.example.expert;
+
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.AllocationBudget;
+import org.example.expert.support.AllocationProbe;
+import org.example.expert.support.DirectAsyncExecutors;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.stream.Stream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 요청당 할당량 예산, 넘으면 단계별 할당량이 실패 메시지에 나온다
+// endpoint 를 추가하려면 budgets() 에 fixture 와 예산을 추가한다
+@Import({AllocationProbe.class, DirectAsyncExecutors.class})
+class AllocationBudgetTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AllocationProbe allocationProbe;
+
+    static Stream<Arguments> budgets() {
+        return Stream.of(
+                // bcrypt 비용은 application-test.yml 의 4 기준
+                Arguments.of("signin_로그인은768KB이하를할당한다", 768, (Fixture) AllocationBudgetTest::signin),
+                Arguments.of("getComments_댓글10개조회는768KB이하를할당한다", 768, (Fixture) AllocationBudgetTest::getComments),
+                Arguments.of("getTodos_일정10개페이지는1_5MB이하를할당한다", 1536, (Fixture) AllocationBudgetTest::getTodos)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void 요청당할당량이예산이하다(String name, int budgetKb, Fixture fixture) throws Exception {
+        //given
+        RequestBuilder request = fixture.create(this);
+
+        //when
+        AllocationBudget.Report report = AllocationBudget.measure(mvc, allocationProbe, objectMapper, request, 200, 21);
+
+        //then
+        report.assertAtMost(budgetKb * 1024L);
+    }
+
+    private RequestBuilder signin() throws Exception {
+        User user = createUser(UserRole.USER);
+        return post("/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new SigninRequest(user.getEmail(), PASSWORD)));
+    }
+
+    private RequestBuilder getComments() {
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+        for (int i = 0; i < 10; i++) {
+            createComment(createUser(UserRole.USER), todo);
+        }
+        return get("/todos/{todoId}/comments", todo.getId())
+                .header("Authorization", bearerToken(user));
+    }
+
+    private RequestBuilder getTodos() {
+        User user = createUser(UserRole.USER);
+        for (int i = 0; i < 10; i++) {
+            createTodo(createUser(UserRole.USER));
+        }
+        return get("/todos")
+                .param("page", "1")
+                .param("size", "10")
+                .header("Authorization", bearerToken(user));
+    }
+
+    // 데이터를 만들고 잴 요청을 돌려준다
+    interface Fixture {
+        RequestBuilder create(AllocationBudgetTest test) throws Exception;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한순서대로다시읽을수있다() throws IOException {
+        //given
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 1024, 16)) {
+            writer.append(bytes("first"));
+            writer.append(bytes("second"));
+        }
+
+        //when
+        List<String> records = readAll();
+
+        //then
+        assertEquals(List.of("first", "second"), records);
+    }
+
+    @Test
+    void 세그먼트가차면다음세그먼트로넘어가고오래된세그먼트를지운다() throws IOException {
+        //given
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 64, 2)) {
+            //when
+            for (int i = 0; i < 20; i++) {
+                writer.append(bytes("record-" + String.format("%02d", i)));
+            }
+        }
+
+        //then
+        List<String> records = readAll();
+        assertEquals(2, AuditLogWriter.segments(directory).size());
+        assertEquals("record-19", records.get(records.size() - 1));
+        assertTrue(records.size() < 20);
+    }
+
+    @Test
+    void 재시작하면새세그먼트에이어서기록한다() throws IOException {
+        //given
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 1024, 16)) {
+            writer.append(bytes("before"));
+        }
+
+        //when
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 1024, 16)) {
+            writer.append(bytes("after"));
+        }
+
+        //then
+        assertEquals(List.of("before", "after"), readAll());
+    }
+
+    @Test
+    void 세그먼트보다큰기록은버린다() throws IOException {
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 16, 2)) {
+            assertFalse(writer.append(new byte[32]));
+        }
+    }
+
+    @Test
+    void reader는조건에맞는기록만반환한다() throws IOException {
+        //given
+        try (AuditLogWriter writer = new AuditLogWriter(directory, 1024, 16)) {
+            writer.append(bytes("{\"userId\":\"1\",\"uri\":\"/admin/users/1\"}"));
+            writer.append(bytes("{\"userId\":\"2\",\"uri\":\"/admin/comments/1\"}"));
+        }
+        AuditLogReader reader = new AuditLogReader(directory, new ObjectMapper());
+
+        //when
+        List<JsonNode> result = reader.query(node -> node.path("uri").asText().startsWith("/admin/comments"), 10);
+
+        //then
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).path("userId").asText());
+    }
+
+    private List<String> readAll() throws IOException {
+        List<String> records = new ArrayList<>();
+        new AuditLogReader(directory, new ObjectMapper())
+                .forEach(record -> records.add(new String(record, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.aop.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLoggerTest {
+
+    @TempDir
+    Path directory;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    AuditLogger auditLogger;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        auditLogger = new AuditLogger(objectMapper);
+        ReflectionTestUtils.setField(auditLogger, "directory", directory.toString());
+        auditLogger.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditLogger.stop();
+    }
+
+    @Test
+    void 유휴상태의소비스레드는park하고publish하면깨어나서기록한다() throws Exception {
+        //given
+        Thread consumer = (Thread) ReflectionTestUtils.getField(auditLogger, "consumer");
+        awaitState(consumer, Thread.State.WAITING);
+
+        //when
+        auditLogger.publish(event(auditLogger.snapshot(Map.of("id", 1))));
+
+        //then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (auditLogger.getWritten() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, auditLogger.getWritten());
+    }
+
+    @Test
+    void 응답은publish시점의값으로기록한다() throws Exception {
+        //given
+        List<String> response = new ArrayList<>(List.of("before"));
+        AuditEvent event = event(auditLogger.snapshot(response));
+
+        //when
+        response.set(0, "after");
+        auditLogger.publish(event);
+        auditLogger.stop();
+
+        //then
+        List<JsonNode> records = new AuditLogReader(directory, objectMapper).query(node -> true, 10);
+        assertEquals(1, records.size());
+        assertEquals("before", records.get(0).path("response").get(0).asText());
+    }
+
+    private AuditEvent event(JsonNode response) {
+        return new AuditEvent(System.currentTimeMillis(), 1L, "ADMIN", "PATCH", "/admin/users/1",
+                "{}".getBytes(StandardCharsets.UTF_8), false, response, null, 1000);
+    }
+
+    private void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(state, thread.getState());
+    }
+}
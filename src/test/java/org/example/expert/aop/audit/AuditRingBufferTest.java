@@ -0,0 +1,82 @@
+package org.example.expert.aop.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 넣은순서대로꺼낸다() {
+        //given
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(4);
+        ringBuffer.offer(1);
+        ringBuffer.offer(2);
+
+        //when & then
+        assertEquals(1, ringBuffer.poll());
+        assertEquals(2, ringBuffer.poll());
+        assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    void 가득차면offer가false를반환하고꺼낸만큼다시넣을수있다() {
+        //given
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(2);
+        assertTrue(ringBuffer.offer(1));
+        assertTrue(ringBuffer.offer(2));
+
+        //when & then
+        assertFalse(ringBuffer.offer(3));
+        ringBuffer.poll();
+        assertTrue(ringBuffer.offer(3));
+        assertEquals(2, ringBuffer.size());
+    }
+
+    @Test
+    void capacity가2의거듭제곱이아니면예외발생() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer<>(3));
+    }
+
+    @Test
+    void 여러스레드가동시에넣어도유실없이모두꺼낸다() throws InterruptedException {
+        //given
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        //when
+        for (int p = 0; p < producers; p++) {
+            executorService.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (drained.size() < producers * perProducer && System.nanoTime() < deadline) {
+            ringBuffer.drainTo(drained, 256);
+        }
+        done.await(1, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertEquals(producers * perProducer, drained.size());
+        assertEquals((long) producers * perProducer * (perProducer - 1) / 2,
+                drained.stream().mapToLong(Integer::longValue).sum());
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaptureFormatTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한요청을도착순서대로다시읽을수있다() throws IOException {
+        //given
+        Path file = directory.resolve("capture.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            CaptureFormat.writeHeader(out, 1_700_000_000_000L);
+            CaptureFormat.write(out, new CapturedRequest(2_500, "POST", "/todos/1/comments", 300L, "USER",
+                    Map.of("Content-Type", "application/json"), "{\"contents\":\"댓글\"}".getBytes(StandardCharsets.UTF_8),
+                    false, 200, 1_234));
+            CaptureFormat.write(out, new CapturedRequest(1_000, "GET", "/todos?page=2&size=10", null, null,
+                    Map.of(), null, false, 400, 56));
+        }
+
+        //when
+        List<CapturedRequest> requests = CaptureFormat.readAll(file);
+
+        //then
+        assertEquals(2, requests.size());
+        CapturedRequest first = requests.get(0);
+        assertEquals(1_000, first.getOffsetMicros());
+        assertEquals("/todos?page=2&size=10", first.getUri());
+        assertNull(first.getUserId());
+        assertNull(first.getUserRole());
+        assertNull(first.getBody());
+        assertEquals(400, first.getStatus());
+
+        CapturedRequest second = requests.get(1);
+        assertEquals("POST", second.getMethod());
+        assertEquals(300L, second.getUserId());
+        assertEquals("USER", second.getUserRole());
+        assertEquals("application/json", second.getHeaders().get("Content-Type"));
+        assertEquals("{\"contents\":\"댓글\"}", new String(second.getBody(), StandardCharsets.UTF_8));
+        assertEquals(1_234, second.getDurationMicros());
+    }
+
+    @Test
+    void 덜쓰인마지막요청은무시한다() throws IOException {
+        //given
+        Path file = directory.resolve("capture.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            CaptureFormat.writeHeader(out, 0);
+            CaptureFormat.write(out, new CapturedRequest(1, "GET", "/todos/1", 1L, "USER", Map.of(), null, false, 200, 10));
+        }
+        // offsetMicros, method 길이, method 의 첫 글자까지만 쓰고 끝난 요청
+        Files.write(file, new byte[]{5, 3, 'G'}, StandardOpenOption.APPEND);
+
+        //when
+        List<CapturedRequest> requests = CaptureFormat.readAll(file);
+
+        //then
+        assertEquals(1, requests.size());
+        assertEquals("/todos/1", requests.get(0).getUri());
+    }
+
+    @Test
+    void 캡처파일이아니면예외가발생한다() throws IOException {
+        //given
+        Path file = directory.resolve("capture.bin");
+        Files.write(file, "not a capture file".getBytes(StandardCharsets.UTF_8));
+
+        //when & then
+        assertThrows(IOException.class, () -> CaptureFormat.readAll(file));
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficCaptureFilterTest {
+
+    @TempDir
+    Path directory;
+
+    TrafficCapture trafficCapture;
+    TrafficCaptureFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        trafficCapture = new TrafficCapture(directory.resolve("capture.bin"), 16, 100);
+        filter = new TrafficCaptureFilter(trafficCapture, new ObjectMapper(), List.of("/auth/", "/admin/"),
+                List.of("Content-Type", "Accept"), List.of("password"), 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        trafficCapture.close();
+    }
+
+    @Test
+    void 토큰대신userId를남기고허용한헤더만남긴다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos/1/comments");
+        request.setQueryString("page=1");
+        request.addHeader("Authorization", "Bearer secret-token");
+        request.addHeader("Cookie", "session=secret");
+        request.setContentType("application/json");
+        request.setContent("{\"contents\":\"댓글\"}".getBytes(StandardCharsets.UTF_8));
+        FilterChain chain = (req, res) -> {
+            StreamUtils.copyToByteArray(req.getInputStream());
+            req.setAttribute("userId", 7L);
+            req.setAttribute("userRole", "USER");
+            ((MockHttpServletResponse) res).setStatus(201);
+        };
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        List<CapturedRequest> requests = readAll();
+
+        //then
+        assertEquals(1, requests.size());
+        CapturedRequest captured = requests.get(0);
+        assertEquals("/todos/1/comments?page=1", captured.getUri());
+        assertEquals(7L, captured.getUserId());
+        assertEquals("USER", captured.getUserRole());
+        assertEquals(List.of("Content-Type"), List.copyOf(captured.getHeaders().keySet()));
+        assertEquals("{\"contents\":\"댓글\"}", new String(captured.getBody(), StandardCharsets.UTF_8));
+        assertEquals(201, captured.getStatus());
+    }
+
+    @Test
+    void 본문의비밀번호필드는가린다() {
+        //given
+        byte[] body = "{\"oldPassword\":\"a\",\"user\":{\"Password\":\"Secret123\"},\"email\":\"a@a.com\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        //when
+        String sanitized = new String(filter.sanitize(body, "application/json"), StandardCharsets.UTF_8);
+
+        //then
+        assertFalse(sanitized.contains("Secret123"));
+        assertTrue(sanitized.contains("\"Password\":\"" + TrafficCaptureFilter.MASK + "\""));
+        assertTrue(sanitized.contains("\"oldPassword\":\"a\""));
+        assertTrue(sanitized.contains("a@a.com"));
+    }
+
+    @Test
+    void 잘린본문은남기지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos");
+        request.setContentType("application/json");
+        request.setContent(("{\"title\":\"" + "a".repeat(100) + "\"}").getBytes(StandardCharsets.UTF_8));
+        FilterChain chain = (req, res) -> StreamUtils.copyToByteArray(req.getInputStream());
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        List<CapturedRequest> requests = readAll();
+
+        //then
+        assertTrue(requests.get(0).isBodyTruncated());
+        assertNull(requests.get(0).getBody());
+    }
+
+    @Test
+    void Content_Length가없는chunked요청도한도를넘으면잘린본문으로보고남기지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent(("{\"title\":\"" + "a".repeat(60) + "\",\"password\":\"Secret123\"}").getBytes(StandardCharsets.UTF_8));
+        FilterChain chain = (req, res) -> StreamUtils.copyToByteArray(req.getInputStream());
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        List<CapturedRequest> requests = readAll();
+
+        //then
+        assertTrue(requests.get(0).isBodyTruncated());
+        assertNull(requests.get(0).getBody());
+    }
+
+    @Test
+    void 파싱할수없는JSON본문은가릴수없으므로남기지않는다() {
+        //given
+        byte[] body = "{\"password\":\"Secret123\"".getBytes(StandardCharsets.UTF_8);
+
+        //when & then
+        assertNull(filter.sanitize(body, "application/json"));
+    }
+
+    @Test
+    void JSON이아닌본문은가릴수없으므로남기지않는다() {
+        //given
+        byte[] form = "email=a%40a.com&password=Secret123".getBytes(StandardCharsets.UTF_8);
+        byte[] text = "password=Secret123".getBytes(StandardCharsets.UTF_8);
+
+        //when & then
+        assertNull(filter.sanitize(form, "application/x-www-form-urlencoded"));
+        assertNull(filter.sanitize(text, "text/plain"));
+        assertNull(filter.sanitize(text, null));
+    }
+
+    @Test
+    void 제외한경로는캡처하지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        //then
+        assertTrue(readAll().isEmpty());
+    }
+
+    private List<CapturedRequest> readAll() throws IOException {
+        trafficCapture.close();
+        return CaptureFormat.readAll(trafficCapture.getFile());
+    }
+}
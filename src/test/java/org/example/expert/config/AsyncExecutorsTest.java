@@ -0,0 +1,115 @@
+package org.example.expert.config;
+
+import org.example.expert.jdbc.RequestSqlStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExecutorsTest {
+
+    AsyncExecutors asyncExecutors;
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 큐 1칸, timeout 200ms
+        asyncExecutors = new AsyncExecutors(1, 1, 200, 1, 1, 200, false);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        asyncExecutors.shutdown();
+        RequestSqlStats.end();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 작업스레드에서요청의SQL통계와요청속성을이어서쓴다() throws Exception {
+        //given
+        RequestSqlStats stats = RequestSqlStats.begin("POST /todos");
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest("POST", "/todos"));
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        //when
+        Object[] seen = asyncExecutors.io(() -> new Object[]{
+                RequestSqlStats.current(), RequestContextHolder.getRequestAttributes()}).get();
+
+        RequestSqlStats.end();
+        RequestContextHolder.resetRequestAttributes();
+        Object[] after = asyncExecutors.io(() -> new Object[]{
+                RequestSqlStats.current(), RequestContextHolder.getRequestAttributes()}).get();
+
+        //then
+        assertSame(stats, seen[0]);
+        assertSame(attributes, seen[1]);
+        assertNull(after[0]);
+        assertNull(after[1]);
+    }
+
+    @Test
+    void 큐가가득차면작업을거절한다() {
+        //given
+        asyncExecutors.cpu(this::awaitRelease);
+        asyncExecutors.cpu(this::awaitRelease);
+
+        //when & then
+        assertThrows(RejectedExecutionException.class, () -> asyncExecutors.cpu(this::awaitRelease));
+    }
+
+    @Test
+    void timeout안에끝나지않으면TimeoutException으로끝난다() {
+        //when
+        CompletableFuture<Boolean> future = asyncExecutors.io(this::awaitRelease);
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void 가상스레드모드에서는io만작업마다가상스레드로실행한다() throws Exception {
+        //given
+        AsyncExecutors virtualExecutors = new AsyncExecutors(1, 1, 200, 1, 1, 200, true);
+
+        try {
+            //when
+            boolean ioVirtual = virtualExecutors.io(() -> Thread.currentThread().isVirtual()).get();
+            boolean cpuVirtual = virtualExecutors.cpu(() -> Thread.currentThread().isVirtual()).get();
+
+            //then
+            assertTrue(ioVirtual);
+            assertFalse(cpuVirtual);
+            // 스레드 수 (1) 와 큐 (1) 에 묶이지 않는다
+            for (int i = 0; i < 4; i++) {
+                virtualExecutors.io(this::awaitRelease);
+            }
+        } finally {
+            release.countDown();
+            virtualExecutors.shutdown();
+        }
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
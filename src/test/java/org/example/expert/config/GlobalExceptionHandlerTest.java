@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(objectMapper);
+
+    @Test
+    void 에러응답본문을JSON으로직렬화한다() throws IOException {
+        //when
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleAuthException(new AuthException("잘못된 비밀번호입니다."));
+
+        //then
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("UNAUTHORIZED", body.get("status").asText());
+        assertEquals(401, body.get("code").asInt());
+        assertEquals("잘못된 비밀번호입니다.", body.get("message").asText());
+    }
+
+    @Test
+    void 같은status와message의응답은재사용한다() {
+        //when
+        ResponseEntity<byte[]> first = globalExceptionHandler.invalidRequestExceptionException(new InvalidRequestException("Todo not found"));
+        ResponseEntity<byte[]> second = globalExceptionHandler.invalidRequestExceptionException(new InvalidRequestException("Todo not found"));
+        ResponseEntity<byte[]> other = globalExceptionHandler.invalidRequestExceptionException(new InvalidRequestException("User not found"));
+
+        //then
+        assertSame(first, second);
+        assertNotSame(first, other);
+    }
+
+    @Test
+    void 커넥션을얻지못한요청은503으로응답한다() throws IOException {
+        //when
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleCannotCreateTransactionException(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+
+        //then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(503, objectMapper.readTree(response.getBody()).get("code").asInt());
+    }
+
+    @Test
+    void 비동기작업이timeout을넘기면503으로응답한다() throws IOException {
+        //when
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleTimeoutException(new TimeoutException());
+
+        //then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.",
+                objectMapper.readTree(response.getBody()).get("message").asText());
+    }
+
+    @Test
+    void 비즈니스예외는스택트레이스를채우지않는다() {
+        assertEquals(0, new InvalidRequestException("Todo not found").getStackTrace().length);
+    }
+}
@@ -7,11 +7,13 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.exception.ServerException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -31,6 +33,9 @@ class JwtFilterTest {
     @Mock
     Claims claims;
 
+    @Spy
+    JwtRejectionStats jwtRejectionStats = new JwtRejectionStats();
+
     @InjectMocks
     JwtFilter jwtFilter;
 
@@ -208,4 +213,76 @@ class JwtFilterTest {
         verify(chain,times(1)).doFilter(request, response);
     }
 
-}
\ No newline at end of file
+    @Test
+    void 만료된토큰은사유별로집계한다() throws ServletException, IOException {
+        //given
+        request.addHeader("Authorization", header);
+        given(jwtUtil.substringToken(header)).willReturn(token);
+        given(jwtUtil.extractClaims(token)).willThrow(ExpiredJwtException.class);
+
+        //when
+        jwtFilter.doFilter(request, response, chain);
+
+        //then
+        assertEquals(1, jwtRejectionStats.count(JwtRejectionStats.Reason.EXPIRED));
+    }
+
+    @Test
+    void 유저권한USER일때internal경로를요청하면403에러반환() throws ServletException, IOException {
+        //given
+        request.setRequestURI("/internal/metrics");
+        request.addHeader("Authorization", header);
+        given(jwtUtil.substringToken(header)).willReturn(token);
+        given(jwtUtil.extractClaims(token)).willReturn(claims);
+
+        given(claims.get("userRole", String.class)).willReturn("USER");
+        given(claims.getSubject()).willReturn("1");
+        given(claims.get("email")).willReturn("a@a.com");
+        given(claims.get("userRole")).willReturn("USER");
+
+        //when
+        jwtFilter.doFilter(request, response, chain);
+
+        //then
+        assertEquals(HttpServletResponse.SC_FORBIDDEN, response.getStatus());
+        assertEquals(1, jwtRejectionStats.count(JwtRejectionStats.Reason.FORBIDDEN));
+    }
+
+    @Test
+    void Bearer형식이아닌헤더는MALFORMED로세고400에러반환() throws ServletException, IOException {
+        //given
+        request.setRequestURI("/todos");
+        request.addHeader("Authorization", "Basic abc");
+        given(jwtUtil.substringToken("Basic abc")).willThrow(new ServerException("Not Found Token"));
+
+        //when
+        jwtFilter.doFilter(request, response, chain);
+
+        //then
+        assertEquals(HttpServletResponse.SC_BAD_REQUEST, response.getStatus());
+        assertEquals(1, jwtRejectionStats.count(JwtRejectionStats.Reason.MALFORMED));
+        verify(chain, never()).doFilter(request, response);
+    }
+
+    @Test
+    void 수집용토큰으로는metrics만JWT없이요청할수있다() throws ServletException, IOException {
+        //given
+        JwtFilter scrapeFilter = new JwtFilter(jwtUtil, jwtRejectionStats, "scrape-secret");
+        request.setRequestURI("/internal/metrics");
+        request.addHeader("Authorization", "Bearer scrape-secret");
+        MockHttpServletRequest adminRequest = new MockHttpServletRequest("GET", "/admin/users");
+        adminRequest.addHeader("Authorization", "Bearer scrape-secret");
+        MockHttpServletResponse adminResponse = new MockHttpServletResponse();
+        given(jwtUtil.substringToken("Bearer scrape-secret")).willReturn("scrape-secret");
+        given(jwtUtil.extractClaims("scrape-secret")).willThrow(MalformedJwtException.class);
+
+        //when
+        scrapeFilter.doFilter(request, response, chain);
+        scrapeFilter.doFilter(adminRequest, adminResponse, chain);
+
+        //then
+        verify(chain).doFilter(request, response);
+        verify(chain, never()).doFilter(adminRequest, adminResponse);
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, adminResponse.getStatus());
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.config;
+
+import org.example.expert.config.JwtRejectionStats.Reason;
+import org.example.expert.metrics.MetricsWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtRejectionStatsTest {
+
+    @Test
+    void 로그를생략해도사유별건수는모두센다() {
+        //given
+        JwtRejectionStats jwtRejectionStats = new JwtRejectionStats();
+        ReflectionTestUtils.setField(jwtRejectionStats, "maxPerInterval", 1);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            jwtRejectionStats.reject(Reason.EXPIRED, "/todos", new RuntimeException("expired"));
+        }
+        jwtRejectionStats.reject(Reason.MISSING_TOKEN, "/todos", null);
+
+        //then
+        assertEquals(100, jwtRejectionStats.count(Reason.EXPIRED));
+        assertEquals(1, jwtRejectionStats.count(Reason.MISSING_TOKEN));
+        assertEquals(0, jwtRejectionStats.count(Reason.FORBIDDEN));
+    }
+
+    @Test
+    void 사유별건수를Prometheus형식으로출력한다() {
+        //given
+        JwtRejectionStats jwtRejectionStats = new JwtRejectionStats();
+        jwtRejectionStats.reject(Reason.INVALID_SIGNATURE, "/todos", null);
+        MetricsWriter writer = new MetricsWriter();
+
+        //when
+        jwtRejectionStats.writeMetrics(writer);
+
+        //then
+        String metrics = writer.toString();
+        assertTrue(metrics.contains("# TYPE jwt_rejections_total counter"));
+        assertTrue(metrics.contains("jwt_rejections_total{reason=\"invalid_signature\"} 1\n"));
+        assertTrue(metrics.contains("jwt_rejections_total{reason=\"expired\"} 0\n"));
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "ZXhwZXJ0LWp3dC11dGlsLXRlc3Qtc2VjcmV0LWtleS0wMTIzNDU2Nzg5MDEy";
+
+    JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 리프레시토큰해시는액세스토큰서명키와다른키로만든다() throws Exception {
+        //given
+        String refreshToken = jwtUtil.createRefreshToken();
+        Mac signingKeyMac = Mac.getInstance("HmacSHA256");
+        signingKeyMac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256"));
+
+        //when
+        String hash = jwtUtil.hashRefreshToken(refreshToken);
+
+        //then
+        String hashWithSigningKey = HexFormat.of().formatHex(signingKeyMac.doFinal(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(hashWithSigningKey, hash);
+        assertEquals(hash, jwtUtil.hashRefreshToken(refreshToken));
+    }
+}
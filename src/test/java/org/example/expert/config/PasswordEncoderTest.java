@@ -4,8 +4,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
@@ -25,4 +29,51 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 가상스레드모드에서도플랫폼스레드의해싱은세마포어를거치지않는다() throws InterruptedException {
+        //given
+        PasswordEncoder encoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(encoder, "fixedCost", 4);
+        ReflectionTestUtils.setField(encoder, "virtualThreads", true);
+        encoder.init();
+        Semaphore hashPermits = (Semaphore) ReflectionTestUtils.getField(encoder, "hashPermits");
+        int permits = hashPermits.drainPermits();
+
+        //when
+        String encoded = encoder.encode("password");
+        Thread virtual = Thread.ofVirtual().start(() -> encoder.matches("password", encoded));
+
+        //then
+        assertFalse(virtual.join(Duration.ofMillis(200)), "가상 스레드는 허가를 기다려야 합니다.");
+        hashPermits.release(permits);
+        assertTrue(virtual.join(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void needsRehash_현재cost와다른해시는재해싱이필요하다() {
+        // given
+        String currentHash = passwordEncoder.encode("testPassword");
+        String legacyHash = "$2a$10$" + currentHash.substring(7);
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(currentHash));
+        assertTrue(passwordEncoder.needsRehash(legacyHash));
+    }
+
+    @Test
+    void extractCost_해시에서cost를추출한다() {
+        assertEquals(12, PasswordEncoder.extractCost("$2a$12$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, PasswordEncoder.extractCost("plainText"));
+        assertEquals(-1, PasswordEncoder.extractCost(null));
+    }
+
+    @Test
+    void calibrate_목표시간이매우짧으면최소cost를사용한다() {
+        // when
+        int cost = passwordEncoder.calibrate(0);
+
+        // then
+        assertEquals(4, cost);
+    }
 }
@@ -0,0 +1,128 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    RateLimitFilter rateLimitFilter;
+    FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(List.of(
+                new RateLimiter("auth", "/auth", null, RateLimiter.KeyType.CLIENT_IP, 2, 60, TimeUnit.SECONDS),
+                new RateLimiter("write", "/", "POST", RateLimiter.KeyType.USER_ID, 1, 60, TimeUnit.SECONDS)
+        ));
+        chain = mock(FilterChain.class);
+    }
+
+    @Test
+    void auth요청이한도를초과하면429와RetryAfter반환() throws ServletException, IOException {
+        //when
+        MockHttpServletResponse first = doFilter(authRequest("1.1.1.1"));
+        MockHttpServletResponse second = doFilter(authRequest("1.1.1.1"));
+        MockHttpServletResponse third = doFilter(authRequest("1.1.1.1"));
+
+        //then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus());
+        assertNotNull(third.getHeader("Retry-After"));
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void IP가다르면각각한도를적용한다() throws ServletException, IOException {
+        //when
+        doFilter(authRequest("1.1.1.1"));
+        doFilter(authRequest("1.1.1.1"));
+        MockHttpServletResponse response = doFilter(authRequest("2.2.2.2"));
+
+        //then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void POST요청은userId기준으로한도를적용한다() throws ServletException, IOException {
+        //when
+        MockHttpServletResponse first = doFilter(postRequest(1L));
+        MockHttpServletResponse second = doFilter(postRequest(1L));
+        MockHttpServletResponse otherUser = doFilter(postRequest(2L));
+
+        //then
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals(200, otherUser.getStatus());
+    }
+
+    @Test
+    void 규칙에해당하지않는요청은제한하지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            doFilter(request);
+        }
+
+        //then
+        verify(chain, times(10)).doFilter(any(), any());
+    }
+
+    @Test
+    void 접두사만같은다른경로에는auth한도를적용하지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/authors");
+        request.setRemoteAddr("1.1.1.1");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            doFilter(request);
+        }
+
+        //then
+        verify(chain, times(10)).doFilter(any(), any());
+    }
+
+    @Test
+    void 시간이지나면토큰이다시채워진다() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter("test", "/", null, RateLimiter.KeyType.CLIENT_IP, 1, 1, TimeUnit.SECONDS);
+        long now = 0L;
+
+        //when & then
+        assertEquals(0, rateLimiter.tryAcquire("key", now));
+        assertTrue(rateLimiter.tryAcquire("key", now) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("key", now + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private MockHttpServletRequest authRequest(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletRequest postRequest(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos");
+        request.setAttribute("userId", userId);
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
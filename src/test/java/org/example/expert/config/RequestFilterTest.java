@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+class RequestFilterTest {
+
+    RequestFilter requestFilter;
+    FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        requestFilter = new RequestFilter();
+        ReflectionTestUtils.setField(requestFilter, "maxBytes", 4);
+        chain = mock(FilterChain.class);
+    }
+
+    @Test
+    void admin경로가아니면요청과응답을감싸지않는다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        requestFilter.doFilter(request, response, chain);
+
+        //then
+        verify(chain).doFilter(same(request), same(response));
+    }
+
+    @Test
+    void admin경로는최대크기까지만요청본문을캐시한다() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/admin/users/1");
+        request.setContent("{\"role\":\"ADMIN\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+
+        //when
+        requestFilter.doFilter(request, response, chain);
+
+        //then
+        verify(chain).doFilter(captor.capture(), same(response));
+        ContentCachingRequestWrapper wrapper = assertInstanceOf(ContentCachingRequestWrapper.class, captor.getValue());
+        StreamUtils.copyToByteArray(wrapper.getInputStream());
+        assertEquals(4, wrapper.getContentAsByteArray().length);
+    }
+}
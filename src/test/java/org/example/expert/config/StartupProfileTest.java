@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import org.example.expert.client.WeatherClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 기동 시간 최적화 모드 (application-startup.yml) 로 애플리케이션 전체를 띄운다
+// 자동 설정을 빼도 기동되는지, startup.lazy-beans 가 기동 중에 만들어지지 않는지 확인한다
+@SpringBootTest
+@ActiveProfiles({"test", "startup"})
+class StartupProfileTest {
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    Environment environment;
+
+    @Test
+    void lazy로지정한bean은기동중에만들지않고처음사용할때만든다() {
+        //given
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("startup.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of());
+        assertFalse(lazyBeans.isEmpty());
+        for (String beanName : lazyBeans) {
+            assertTrue(beanFactory.getBeanDefinition(beanName).isLazyInit(), beanName);
+            assertFalse(beanFactory.containsSingleton(beanName), beanName + " 가 기동 중에 만들어졌습니다.");
+        }
+
+        //when
+        WeatherClient weatherClient = applicationContext.getBean(WeatherClient.class);
+
+        //then
+        assertNotNull(weatherClient);
+        assertTrue(beanFactory.containsSingleton("weatherClient"));
+    }
+}
@@ -1,10 +1,13 @@
 package org.example.expert.domain.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.AsyncExecutors;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.auth.service.AuthService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -14,8 +17,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -25,10 +30,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
+@Import(AsyncExecutors.class)
 class AuthControllerTest {
 
     @Autowired
@@ -45,15 +53,16 @@ class AuthControllerTest {
         SignupRequest signupRequest = new SignupRequest("a@a.com","Passwd","user");
 
         String token = "token";
-        SignupResponse signupResponse = new SignupResponse(token);
+        SignupResponse signupResponse = new SignupResponse(token, "refresh");
 
         given(authService.signup(any(SignupRequest.class))).willReturn(signupResponse);
         //when
-        ResultActions result = mockMvc.perform(
+        MvcResult mvcResult = mockMvc.perform(
                 MockMvcRequestBuilders.post("/auth/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(signupRequest))
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
         //then
 
         result.andExpect(status().isOk())
@@ -72,7 +81,7 @@ class AuthControllerTest {
         SignupRequest signupRequest = new SignupRequest(email,password,role);
 
         String token = "token";
-        SignupResponse signupResponse = new SignupResponse(token);
+        SignupResponse signupResponse = new SignupResponse(token, "refresh");
 
         given(authService.signup(any(SignupRequest.class))).willReturn(signupResponse);
         //when
@@ -89,14 +98,17 @@ class AuthControllerTest {
     void signin_로그인성공하면토큰을반환한다() throws Exception {
         // given
         SigninRequest signinRequest = new SigninRequest("a@a.com", "Password");
-        SigninResponse signinResponse = new SigninResponse("token");
+        SigninResponse signinResponse = new SigninResponse("token", "refresh");
 
         given(authService.signin(any(SigninRequest.class))).willReturn(signinResponse);
 
         // when
-        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(signinRequest)));
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         result.andExpect(status().isOk())
@@ -112,9 +124,12 @@ class AuthControllerTest {
                 .willThrow(AuthException.class);
 
         // when
-        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(signinRequest)));
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         result.andExpect(status().isUnauthorized());
@@ -129,13 +144,46 @@ class AuthControllerTest {
                 .willThrow(InvalidRequestException.class);
 
         // when
-        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(signinRequest)));
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         result.andExpect(status().isBadRequest());
     }
 
+    @Test
+    void refresh_리프레시토큰으로새토큰을반환한다() throws Exception {
+        // given
+        TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest("refresh");
+        given(authService.refresh(any(TokenRefreshRequest.class)))
+                .willReturn(new TokenRefreshResponse("token", "newRefresh"));
+
+        // when
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(tokenRefreshRequest)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.bearerToken").value("token"))
+                .andExpect(jsonPath("$.refreshToken").value("newRefresh"));
+    }
+
+    @Test
+    void refresh_재사용된토큰이면Unauthorized반환() throws Exception {
+        // given
+        given(authService.refresh(any(TokenRefreshRequest.class))).willThrow(AuthException.class);
 
-}
\ No newline at end of file
+        // when
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRefreshRequest("refresh"))));
+
+        // then
+        result.andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.expert.domain.auth.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.UUID;
+
+import static org.example.expert.support.QueryBudget.atMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthQueryBudgetTest extends IntegrationTestSupport {
+
+    // 유저 insert 1 + 리프레시 토큰 insert 1 (+ 블룸 필터 오탐 시 exists 1)
+    @Test
+    void signup_회원가입은3개이하의쿼리를실행한다() throws Exception {
+        //given
+        SignupRequest signupRequest = new SignupRequest(UUID.randomUUID() + "@example.com", PASSWORD, "USER");
+
+        //when & then
+        performAsync(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(signupRequest)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    // 유저 조회 1 (캐시 미스 기준) + 리프레시 토큰 insert 1
+    @Test
+    void signin_로그인은2개이하의쿼리를실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+
+        //when & then
+        performAsync(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new SigninRequest(user.getEmail(), PASSWORD))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    // 토큰 조회 1 + 교체 표시 update 1 + 새 토큰 insert 1
+    @Test
+    void refresh_토큰재발급은3개이하의쿼리를실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        String signinResponse = performAsync(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new SigninRequest(user.getEmail(), PASSWORD))))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode signin = objectMapper.readTree(signinResponse);
+
+        //when & then
+        mvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TokenRefreshRequest(signin.get("refreshToken").asText()))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+}
@@ -4,25 +4,41 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
+import org.example.expert.domain.auth.entity.RefreshToken;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.EmailBloomFilter;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -30,15 +46,41 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
     @Mock
     private JwtUtil jwtUtil;
 
-    @InjectMocks
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
     private AuthService authService;
 
+    // 쓰기 트랜잭션 안에서 실행 중인지 (bcrypt 가 트랜잭션 밖에서 실행되는지 검사한다)
+    private boolean inTransaction;
+
+    @BeforeEach
+    void setUp() {
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                inTransaction = true;
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    inTransaction = false;
+                }
+            }
+        };
+        // 캐시는 목 레포지토리를 그대로 감싸도록 실제 객체를 사용한다
+        authService = new AuthService(userRepository, refreshTokenRepository, passwordEncoder, jwtUtil, emailBloomFilter,
+                new UserDirectoryCache(userRepository), transactionOperations);
+    }
+
     @Test
     void signup_회원가입을한다(){
         //given
@@ -49,6 +91,7 @@ class AuthServiceTest {
         String encodedPassword = "encodedPassword";
         String token = "Bearer token";
 
+        given(emailBloomFilter.mightContain(user.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(user.getEmail())).willReturn(false);
         given(userRepository.save(any(User.class))).willReturn(user);
         given(passwordEncoder.encode(user.getPassword())).willReturn(encodedPassword);
@@ -67,6 +110,7 @@ class AuthServiceTest {
         SignupRequest signupRequest = new SignupRequest("a@a.com", "Password","user");
         User user = createUser(userId, signupRequest.getEmail(), signupRequest.getPassword(), signupRequest.getUserRole());
 
+        given(emailBloomFilter.mightContain(user.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(user.getEmail())).willReturn(true);
         //when & then
         assertThrows(InvalidRequestException.class,
@@ -75,6 +119,58 @@ class AuthServiceTest {
 
     }
 
+    @Test
+    void signup_블룸필터에없는이메일은exists쿼리를생략한다(){
+        //given
+        long userId = 1L;
+        SignupRequest signupRequest = new SignupRequest("a@a.com", "Password","user");
+        User user = createUser(userId, signupRequest.getEmail(), signupRequest.getPassword(), signupRequest.getUserRole());
+
+        given(emailBloomFilter.mightContain(user.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(user.getPassword())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willReturn(user);
+        given(jwtUtil.createToken(user.getId(),user.getEmail(), user.getUserRole())).willReturn("Bearer token");
+
+        //when
+        authService.signup(signupRequest);
+
+        //then
+        verify(userRepository, never()).existsByEmail(any());
+        verify(emailBloomFilter).put(user.getEmail());
+    }
+
+    @Test
+    void signup_동시가입으로unique제약조건을위반하면InvalidRequestException발생(){
+        //given
+        SignupRequest signupRequest = new SignupRequest("a@a.com", "Password","user");
+
+        given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_USERS_EMAIL_INDEX_4")));
+
+        //when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signup(signupRequest));
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(emailBloomFilter, never()).put(any());
+    }
+
+    @Test
+    void signup_이메일이아닌제약조건위반은이메일중복으로바꾸지않는다(){
+        //given
+        SignupRequest signupRequest = new SignupRequest("a@a.com", "Password","user");
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "PUBLIC.CONSTRAINT_4"));
+
+        given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willThrow(violation);
+
+        //when & then
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> authService.signup(signupRequest)));
+    }
+
     @Test
     void signin_로그인을한다(){
         //given
@@ -95,6 +191,60 @@ class AuthServiceTest {
         assertEquals(signin.getBearerToken(), token);
     }
 
+    @Test
+    void signin_저장된해시의cost가다르면로그인시재해싱한다(){
+        //given
+        long userId = 1L;
+        String email = "a@a.com";
+        String password = "Password";
+        User user = createUser(userId, email, "legacyHash", UserRole.USER.name());
+        SigninRequest signinRequest = new SigninRequest(email, password);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(password, "legacyHash")).willReturn(true);
+        given(passwordEncoder.needsRehash("legacyHash")).willReturn(true);
+        given(passwordEncoder.encode(password)).willReturn("rehashed");
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("Bearer token");
+
+        //when
+        authService.signin(signinRequest);
+
+        //then
+        assertEquals("rehashed", user.getPassword());
+    }
+
+    @Test
+    void signin_bcrypt검증과재해싱은트랜잭션밖에서실행한다(){
+        //given
+        long userId = 1L;
+        String password = "Password";
+        User user = createUser(userId, "a@a.com", "legacyHash", UserRole.USER.name());
+
+        given(userRepository.findByEmail("a@a.com")).willReturn(Optional.of(user));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(password, "legacyHash")).willAnswer(invocation -> {
+            assertFalse(inTransaction);
+            return true;
+        });
+        given(passwordEncoder.needsRehash("legacyHash")).willReturn(true);
+        given(passwordEncoder.encode(password)).willAnswer(invocation -> {
+            assertFalse(inTransaction);
+            return "rehashed";
+        });
+        given(refreshTokenRepository.save(any(RefreshToken.class))).willAnswer(invocation -> {
+            assertTrue(inTransaction);
+            return invocation.getArgument(0);
+        });
+
+        //when
+        authService.signin(new SigninRequest("a@a.com", password));
+
+        //then
+        assertEquals("rehashed", user.getPassword());
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
     @Test
     void signin_가입하지않은이메일로는로그인을할수없다(){
         //given
@@ -129,10 +279,79 @@ class AuthServiceTest {
                 "잘못된 비밀번호입니다.") ;
     }
 
+    @Test
+    void refresh_리프레시토큰으로새토큰을발급한다(){
+        //given
+        User user = createUser(1L, "a@a.com", "hash", UserRole.USER.name());
+        RefreshToken refreshToken = createRefreshToken(1L, user, LocalDateTime.now().plusDays(1));
+
+        given(jwtUtil.hashRefreshToken("refresh")).willReturn("refreshHash");
+        given(refreshTokenRepository.findByTokenHashWithUser("refreshHash")).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.markRotated(anyLong(), any(LocalDateTime.class))).willReturn(1);
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("Bearer token");
+        given(jwtUtil.createRefreshToken()).willReturn("newRefresh");
+        given(jwtUtil.hashRefreshToken("newRefresh")).willReturn("newRefreshHash");
+
+        //when
+        TokenRefreshResponse response = authService.refresh(new TokenRefreshRequest("refresh"));
+
+        //then
+        assertEquals("Bearer token", response.getBearerToken());
+        assertEquals("newRefresh", response.getRefreshToken());
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void refresh_이미교체된토큰을재사용하면토큰계열을폐기한다(){
+        //given
+        User user = createUser(1L, "a@a.com", "hash", UserRole.USER.name());
+        RefreshToken refreshToken = createRefreshToken(1L, user, LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(refreshToken, "rotatedAt", LocalDateTime.now().minusMinutes(1));
+
+        given(jwtUtil.hashRefreshToken("refresh")).willReturn("refreshHash");
+        given(refreshTokenRepository.findByTokenHashWithUser("refreshHash")).willReturn(Optional.of(refreshToken));
+
+        //when & then
+        assertThrows(AuthException.class, () -> authService.refresh(new TokenRefreshRequest("refresh")));
+        verify(refreshTokenRepository).deleteAllByFamilyId("family");
+        verify(jwtUtil, never()).createToken(any(), any(), any());
+    }
+
+    @Test
+    void refresh_만료된토큰으로는재발급할수없다(){
+        //given
+        User user = createUser(1L, "a@a.com", "hash", UserRole.USER.name());
+        RefreshToken refreshToken = createRefreshToken(1L, user, LocalDateTime.now().minusSeconds(1));
+
+        given(jwtUtil.hashRefreshToken("refresh")).willReturn("refreshHash");
+        given(refreshTokenRepository.findByTokenHashWithUser("refreshHash")).willReturn(Optional.of(refreshToken));
+
+        //when & then
+        assertThrows(AuthException.class, () -> authService.refresh(new TokenRefreshRequest("refresh")));
+        verify(refreshTokenRepository, never()).markRotated(anyLong(), any());
+    }
+
+    @Test
+    void refresh_존재하지않는토큰이면AuthException발생(){
+        //given
+        given(jwtUtil.hashRefreshToken("unknown")).willReturn("unknownHash");
+        given(refreshTokenRepository.findByTokenHashWithUser("unknownHash")).willReturn(Optional.empty());
+
+        //when & then
+        assertThrows(AuthException.class, () -> authService.refresh(new TokenRefreshRequest("unknown")));
+    }
+
+    RefreshToken createRefreshToken(long id, User user, LocalDateTime expiresAt){
+        RefreshToken refreshToken = new RefreshToken("refreshHash", "family", user, expiresAt);
+        ReflectionTestUtils.setField(refreshToken, "id", id);
+        return refreshToken;
+    }
+
     User createUser(long userId, String email, String password, String role){
         User user = new User(email, password, UserRole.of(role));
         ReflectionTestUtils.setField(user, "id", userId);
 
         return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgerTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @BeforeEach
+    void setUp() {
+        // 교체된 토큰은 24시간 보관
+        refreshTokenPurger = new RefreshTokenPurger(refreshTokenRepository, 24);
+    }
+
+    @Test
+    void 만료된토큰과재사용감지기간이지난교체토큰을지운다() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 12, 0);
+        given(refreshTokenRepository.deleteExpired(now)).willReturn(2);
+        given(refreshTokenRepository.deleteRotatedBefore(now.minusHours(24))).willReturn(3);
+
+        //when
+        int purged = refreshTokenPurger.purge(now);
+
+        //then
+        assertEquals(5, purged);
+        verify(refreshTokenRepository).deleteExpired(now);
+        verify(refreshTokenRepository).deleteRotatedBefore(now.minusHours(24));
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.example.expert.support.QueryBudget.atMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CommentQueryBudgetTest extends IntegrationTestSupport {
+
+    @Test
+    void saveComment_일정조회와댓글insert만실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+
+        //when & then
+        mvc.perform(post("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new CommentSaveRequest("contents"))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void getComments_댓글수와상관없이한번만조회한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+        for (int i = 0; i < 10; i++) {
+            createComment(createUser(UserRole.USER), todo);
+        }
+
+        //when & then
+        mvc.perform(get("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void deleteComment_관리자삭제는조회와delete만실행한다() throws Exception {
+        //given
+        User admin = createUser(UserRole.ADMIN);
+        Comment comment = createComment(admin, createTodo(admin));
+
+        //when & then
+        mvc.perform(delete("/admin/comments/{commentId}", comment.getId())
+                        .header("Authorization", bearerToken(admin)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+}
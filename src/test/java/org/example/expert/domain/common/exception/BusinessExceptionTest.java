@@ -0,0 +1,44 @@
+package org.example.expert.domain.common.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        BusinessException.setStackTraceEnabled(false);
+    }
+
+    @Test
+    void 기본설정에서는스택트레이스를채우지않는다() {
+        //when
+        InvalidRequestException exception = new InvalidRequestException("잘못된 요청");
+
+        //then
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void 설정으로켜면스택트레이스를채운다() {
+        //given
+        BusinessException.setStackTraceEnabled(true);
+
+        //when
+        InvalidRequestException exception = new InvalidRequestException("잘못된 요청");
+
+        //then
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void ServerException은서버오류이므로항상스택트레이스를채운다() {
+        //when
+        ServerException exception = new ServerException("외부 API 오류");
+
+        //then
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
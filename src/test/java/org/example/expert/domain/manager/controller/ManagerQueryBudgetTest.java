@@ -0,0 +1,67 @@
+package org.example.expert.domain.manager.controller;
+
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.example.expert.support.QueryBudget.atMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ManagerQueryBudgetTest extends IntegrationTestSupport {
+
+    // 유저 조회 2 (캐시 미스 기준) + 일정 1 + 중복 확인 1 + insert 1
+    @Test
+    void saveManager_담당자등록은5개이하의쿼리를실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        User managerUser = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+
+        //when & then
+        mvc.perform(post("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new ManagerSaveRequest(managerUser.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(5));
+    }
+
+    @Test
+    void getManagers_담당자수와상관없이2개의쿼리만실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+        for (int i = 0; i < 10; i++) {
+            createManager(createUser(UserRole.USER), todo);
+        }
+
+        //when & then
+        mvc.perform(get("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    // 유저 조회 1 (캐시 미스 기준) + 일정 1 + 담당자 1 + delete 1
+    @Test
+    void deleteManager_담당자삭제는4개이하의쿼리를실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+        Manager manager = createManager(createUser(UserRole.USER), todo);
+
+        //when & then
+        mvc.perform(delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(4));
+    }
+}
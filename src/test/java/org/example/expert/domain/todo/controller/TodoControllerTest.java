@@ -1,6 +1,7 @@
 package org.example.expert.domain.todo.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.AsyncExecutors;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
@@ -13,12 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -28,11 +31,14 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = TodoController.class)
+@Import(AsyncExecutors.class)
 class TodoControllerTest {
     @MockBean
     private TodoService todoService;
@@ -52,14 +58,15 @@ class TodoControllerTest {
 
         given(todoService.saveTodo(any(AuthUser.class), any(TodoSaveRequest.class))).willReturn(todoSaveResponse);
         //when
-        ResultActions resultActions = mockMvc.perform(
+        MvcResult mvcResult = mockMvc.perform(
                 MockMvcRequestBuilders.post("/todos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(todoSaveRequest))
                         .requestAttr("userId", 1L)
                         .requestAttr("email", "a@a.com")
                         .requestAttr("userRole", "user")
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
         //then
         resultActions.andDo(print())
                 .andExpect(status().isOk())
@@ -91,6 +98,28 @@ class TodoControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void saveTodo_비동기처리중예외가발생하면예외에맞는응답을반환한다() throws Exception {
+        //given
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+        given(todoService.saveTodo(any(AuthUser.class), any(TodoSaveRequest.class)))
+                .willThrow(new InvalidRequestException("User not found"));
+        //when
+        MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(todoSaveRequest))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "a@a.com")
+                        .requestAttr("userRole", "user")
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+        //then
+        resultActions.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User not found"));
+    }
+
     @Test
     void getTodos_일정리스트를반환한다() throws Exception {
         //given
@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.example.expert.support.QueryBudget.atMost;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TodoQueryBudgetTest extends IntegrationTestSupport {
+
+    @Test
+    void saveTodo_일정과작성자담당자insert만실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        //when & then
+        performAsync(post("/todos")
+                        .header("Authorization", bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TodoSaveRequest("title", "contents"))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    // 작성자가 모두 다른 일정이어도 user 를 한 번에 가져와야 한다 (목록 1 + count 1)
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50})
+    void getTodos_페이지크기와상관없이2개의쿼리만실행한다(int size) throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        for (int i = 0; i < 30; i++) {
+            createTodo(createUser(UserRole.USER));
+        }
+
+        //when & then
+        mvc.perform(get("/todos")
+                        .param("page", "1")
+                        .param("size", String.valueOf(size))
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void getTodo_일정과작성자를한번에조회한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+
+        //when & then
+        mvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.domain.user.cache;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private EmailBloomFilter emailBloomFilter;
+
+    @Test
+    void warmUp_가입된이메일을batch크기만큼나누어모두넣는다() {
+        //given
+        ReflectionTestUtils.setField(emailBloomFilter, "warmUpBatchSize", 2);
+        given(userRepository.count()).willReturn(3L);
+        given(userRepository.findEmailsAfter("", PageRequest.of(0, 2))).willReturn(List.of("a@a.com", "b@b.com"));
+        given(userRepository.findEmailsAfter("b@b.com", PageRequest.of(0, 2))).willReturn(List.of("c@c.com"));
+
+        //when
+        emailBloomFilter.warmUp();
+
+        //then
+        assertTrue(emailBloomFilter.mightContain("a@a.com"));
+        assertTrue(emailBloomFilter.mightContain("B@B.com"));
+        assertTrue(emailBloomFilter.mightContain("c@c.com"));
+        verify(userRepository, times(2)).findEmailsAfter(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void put한이메일은항상포함되고오탐률은설정값근처다() {
+        //given
+        emailBloomFilter.init(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.put("user" + i + "@example.com");
+        }
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(emailBloomFilter.mightContain("user" + i + "@example.com"));
+            if (emailBloomFilter.mightContain("new" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        assertTrue(falsePositives < 300, "false positives : " + falsePositives);
+    }
+}
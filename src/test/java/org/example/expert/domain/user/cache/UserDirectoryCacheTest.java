@@ -0,0 +1,111 @@
+package org.example.expert.domain.user.cache;
+
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDirectoryCache userDirectoryCache;
+
+    @Test
+    void id로적재한유저는email로도캐시에서조회된다() {
+        //given
+        User user = createUser(1L, "a@a.com");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        //when
+        userDirectoryCache.findById(1L);
+        Optional<CachedUser> cached = userDirectoryCache.findByEmail("a@a.com");
+
+        //then
+        assertTrue(cached.isPresent());
+        assertEquals(1L, cached.get().getId());
+        UserCacheStatsResponse stats = userDirectoryCache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void email이없는유저도id로캐시된다() {
+        //given
+        User user = createUser(1L, null);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        //when
+        userDirectoryCache.findById(1L);
+        Optional<CachedUser> cached = userDirectoryCache.findById(1L);
+
+        //then
+        assertTrue(cached.isPresent());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void evict하면다시DB에서조회한다() {
+        //given
+        User user = createUser(1L, "a@a.com");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        userDirectoryCache.findById(1L);
+
+        //when
+        userDirectoryCache.evict(1L);
+        userDirectoryCache.findById(1L);
+
+        //then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 최대크기를넘으면사용빈도가낮은유저부터제거한다() {
+        //given
+        ReflectionTestUtils.setField(userDirectoryCache, "maxSize", 10);
+        given(userRepository.findById(anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            return Optional.of(createUser(id, "user" + id + "@a.com"));
+        });
+
+        userDirectoryCache.findById(1L);
+        for (int i = 0; i < 100; i++) {
+            userDirectoryCache.findById(1L); // 자주 쓰는 유저
+        }
+
+        //when
+        for (long id = 2; id <= 20; id++) {
+            userDirectoryCache.findById(id);
+        }
+
+        //then
+        UserCacheStatsResponse stats = userDirectoryCache.stats();
+        assertTrue(stats.getSize() <= 10);
+        assertTrue(stats.getEvictions() > 0);
+        userDirectoryCache.findById(1L);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    private User createUser(long id, String email) {
+        User user = new User(email, "hash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.user.controller;
+
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.example.expert.support.QueryBudget.atMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserQueryBudgetTest extends IntegrationTestSupport {
+
+    @Test
+    void getUser_유저조회는1개이하의쿼리를실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+
+        //when & then
+        mvc.perform(get("/users/{userId}", user.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    // 조회 + update + 기존 리프레시 토큰을 폐기하는 delete 1번 (비밀번호가 바뀌면 이전 세션으로 재발급할 수 없어야 한다)
+    @Test
+    void changePassword_비밀번호변경은조회와update와토큰폐기만실행한다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+
+        //when & then
+        mvc.perform(put("/users")
+                        .header("Authorization", bearerToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserChangePasswordRequest(PASSWORD, "NewPassword1234"))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    // 조회 + update + 기존 리프레시 토큰을 폐기하는 delete 1번 (이전 권한이 담긴 토큰으로 재발급할 수 없어야 한다)
+    @Test
+    void changeUserRole_관리자권한변경은조회와update와토큰폐기만실행한다() throws Exception {
+        //given
+        User admin = createUser(UserRole.ADMIN);
+        User user = createUser(UserRole.USER);
+
+        //when & then
+        mvc.perform(patch("/admin/users/{userId}", user.getId())
+                        .header("Authorization", bearerToken(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserRoleChangeRequest("ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void getCacheStats_캐시통계는쿼리를실행하지않는다() throws Exception {
+        //given
+        User admin = createUser(UserRole.ADMIN);
+
+        //when & then
+        mvc.perform(get("/admin/users/cache-stats")
+                        .header("Authorization", bearerToken(admin)))
+                .andExpect(status().isOk())
+                .andExpect(atMost(0));
+    }
+}
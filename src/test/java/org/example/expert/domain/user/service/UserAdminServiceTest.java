@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -17,6 +19,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
@@ -24,6 +27,12 @@ class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserDirectoryCache userDirectoryCache;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -41,6 +50,8 @@ class UserAdminServiceTest {
 
         //then
         assertEquals(UserRole.of(userRoleChangeRequest.getRole()), user.getUserRole());
+        verify(userDirectoryCache).evict(userId);
+        verify(refreshTokenRepository).deleteAllByUserId(userId);
     }
 
     @Test
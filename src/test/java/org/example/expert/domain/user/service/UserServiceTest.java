@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserDirectoryCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -10,7 +12,6 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -32,12 +33,17 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     private UserService userService;
 
     private User user;
     @BeforeEach
     void setUp() {
+        // 캐시는 목 레포지토리를 그대로 감싸도록 실제 객체를 사용한다
+        userService = new UserService(userRepository, passwordEncoder, new UserDirectoryCache(userRepository), refreshTokenRepository);
+
         Long id = 1L;
         user = new User("email@a.com","oldPassword", UserRole.USER);
         ReflectionTestUtils.setField(user, "id", id);
@@ -55,6 +61,19 @@ class UserServiceTest {
         assertEquals(user.getId(), userResponse.getId());
     }
 
+    @Test
+    void getUser_두번째조회부터는캐시에서조회한다(){
+        //given
+        long userId = user.getId();
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        //when
+        userService.getUser(userId);
+        UserResponse userResponse = userService.getUser(userId);
+        //then
+        verify(userRepository, times(1)).findById(userId);
+        assertEquals(user.getEmail(), userResponse.getEmail());
+    }
+
     @Test
     void getUser_user가_존재하지않을때(){
         //given
@@ -83,6 +102,7 @@ class UserServiceTest {
         //then
         verify(passwordEncoder,times(1)).encode(userChangePasswordRequest.getNewPassword());
         assertEquals(user.getPassword(), encodedPassword);
+        verify(refreshTokenRepository).deleteAllByUserId(userId);
     }
 
     @Test
@@ -0,0 +1,42 @@
+package org.example.expert.jdbc;
+
+import org.example.expert.jdbc.dto.ConnectionHoldResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ConnectionHoldController.class)
+class ConnectionHoldControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ConnectionHoldProfiler connectionHoldProfiler;
+
+    @Test
+    void getTopOffenders_커넥션점유순위를반환한다() throws Exception {
+        //given
+        given(connectionHoldProfiler.topOffenders(5)).willReturn(List.of(
+                new ConnectionHoldResponse("TodoService.saveTodo", 3, 900, 0.1, 300, 350, 400, 3, "TodoController.saveTodo:30")
+        ));
+
+        //when
+        ResultActions result = mvc.perform(MockMvcRequestBuilders.get("/admin/db/connections").param("limit", "5"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].method").value("TodoService.saveTodo"))
+                .andExpect(jsonPath("$[0].slowCount").value(3));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.jdbc;
+
+import org.example.expert.jdbc.dto.ConnectionHoldResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionHoldProfilerTest {
+
+    ConnectionHoldProfiler connectionHoldProfiler;
+    ConnectionHoldDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        connectionHoldProfiler = new ConnectionHoldProfiler();
+        dataSource = new ConnectionHoldDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:hold;DB_CLOSE_DELAY=-1"), connectionHoldProfiler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    void 커넥션을사용한트랜잭션메서드별로점유시간을기록한다() throws SQLException {
+        //given
+        try (Connection connection = dataSource.getConnection()) {
+            TransactionSynchronizationManager.setCurrentTransactionName("TodoService.saveTodo");
+            connection.getAutoCommit();
+            assertEquals(1, connectionHoldProfiler.getHeld());
+        }
+
+        //when
+        List<ConnectionHoldResponse> topOffenders = connectionHoldProfiler.topOffenders(10);
+
+        //then
+        assertEquals(1, topOffenders.size());
+        assertEquals("TodoService.saveTodo", topOffenders.get(0).getMethod());
+        assertEquals(1, topOffenders.get(0).getCount());
+        assertEquals(0, connectionHoldProfiler.getHeld());
+        assertEquals(1, connectionHoldProfiler.getPeakHeld());
+    }
+
+    @Test
+    void 임계값을넘으면느린점유로센다() throws SQLException {
+        //given
+        ReflectionTestUtils.setField(connectionHoldProfiler, "slowHoldMillis", 0);
+
+        //when
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close(); // 두 번 닫아도 한 번만 기록한다
+
+        //then
+        ConnectionHoldResponse response = connectionHoldProfiler.topOffenders(10).get(0);
+        assertEquals(ConnectionHoldProfiler.NO_TRANSACTION, response.getMethod());
+        assertEquals(1, response.getCount());
+        assertEquals(1, response.getSlowCount());
+        assertNotNull(response.getLastSlowStack());
+    }
+}
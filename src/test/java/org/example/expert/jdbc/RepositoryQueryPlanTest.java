@@ -0,0 +1,182 @@
+package org.example.expert.jdbc;
+
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.IntegrationTestSupport;
+import org.example.expert.support.QueryPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// repository 에 선언한 모든 쿼리의 실행 계획을 H2 (MySQL 모드) EXPLAIN 으로 검사한다
+// 행이 적으면 H2 가 인덱스 대신 전체 스캔을 고르므로 별도 DB 에 데이터를 채우고 ANALYZE 한 뒤 검사한다
+// repository 에 쿼리 메서드를 추가하면 queries() 에도 추가해야 한다
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class RepositoryQueryPlanTest extends IntegrationTestSupport {
+
+    private static final int USERS = 2_000;
+    private static final int TODOS = 10_000;
+    private static final int COMMENTS_PER_TODO = 3;
+
+    // 전체를 읽는 것이 목적인 쿼리
+    private static final Set<String> FULL_SCAN_QUERIES = Set.of();
+
+    private static final List<Class<?>> REPOSITORIES = List.of(TodoRepository.class, CommentRepository.class,
+            ManagerRepository.class, UserRepository.class, RefreshTokenRepository.class);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static boolean seeded;
+
+    @BeforeEach
+    void setUp() {
+        if (!seeded) {
+            seed(new JdbcTemplate(dataSource));
+            seeded = true;
+        }
+    }
+
+    @Test
+    void 모든repository쿼리메서드를검사대상에포함한다() {
+        //given
+        Set<String> declared = new TreeSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isSynthetic() && !method.isDefault()) {
+                    declared.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        //when
+        Set<String> covered = new TreeSet<>(queries().keySet());
+
+        //then
+        assertEquals(declared, covered);
+    }
+
+    @Test
+    void repository쿼리는전체스캔이나정렬없이인덱스로실행된다() {
+        //given
+        Map<String, Runnable> queries = queries();
+        List<String> failures = new ArrayList<>();
+
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            if (FULL_SCAN_QUERIES.contains(query.getKey())) {
+                continue;
+            }
+
+            //when
+            List<String> sqls = QueryPlan.capture(() -> inRollbackTransaction(query.getValue()));
+
+            //then
+            assertFalse(sqls.isEmpty(), query.getKey() + " 가 SQL 을 실행하지 않았습니다.");
+            for (String sql : sqls) {
+                // 조건 없는 페이지 전체 개수는 인덱스로 줄일 수 없다
+                if (sql.startsWith("select count(") && !sql.contains(" where ")) {
+                    continue;
+                }
+                try {
+                    QueryPlan.assertIndexed(dataSource, sql);
+                } catch (AssertionError e) {
+                    failures.add(query.getKey() + " : " + e.getMessage());
+                }
+            }
+        }
+
+        assertEquals(List.of(), failures, () -> String.join("\n", failures));
+    }
+
+    // "Repository.method" -> 실행
+    private Map<String, Runnable> queries() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("TodoRepository.findAllByOrderByModifiedAtDesc",
+                () -> todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(3, 10)));
+        queries.put("TodoRepository.findByIdWithUser", () -> todoRepository.findByIdWithUser(1L));
+        queries.put("TodoRepository.countById", () -> todoRepository.countById(1L));
+        queries.put("CommentRepository.findByTodoIdWithUser", () -> commentRepository.findByTodoIdWithUser(1L));
+        queries.put("ManagerRepository.findByTodoIdWithUser", () -> managerRepository.findByTodoIdWithUser(1L));
+        queries.put("ManagerRepository.existsByUserIdAndTodoId", () -> managerRepository.existsByUserIdAndTodoId(1L, 1L));
+        queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail("seed-1@example.com"));
+        queries.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail("seed-1@example.com"));
+        queries.put("UserRepository.findEmailsAfter",
+                () -> userRepository.findEmailsAfter("seed-1@example.com", PageRequest.of(0, 100)));
+        queries.put("RefreshTokenRepository.findByTokenHashWithUser",
+                () -> refreshTokenRepository.findByTokenHashWithUser("hash-1"));
+        queries.put("RefreshTokenRepository.markRotated", () -> refreshTokenRepository.markRotated(1L, now));
+        queries.put("RefreshTokenRepository.deleteAllByFamilyId", () -> refreshTokenRepository.deleteAllByFamilyId("family-1"));
+        queries.put("RefreshTokenRepository.deleteAllByUserId", () -> refreshTokenRepository.deleteAllByUserId(1L));
+        queries.put("RefreshTokenRepository.deleteExpired", () -> refreshTokenRepository.deleteExpired(now));
+        queries.put("RefreshTokenRepository.deleteRotatedBefore", () -> refreshTokenRepository.deleteRotatedBefore(now.minusDays(1)));
+        return queries;
+    }
+
+    // 변경 쿼리도 실행해야 SQL 을 얻을 수 있으므로 롤백한다
+    private void inRollbackTransaction(Runnable query) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plusDays(14));
+
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                rows(USERS, i -> new Object[]{"seed-" + i + "@example.com", "hash", "USER", now, now}));
+        long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows(TODOS, i -> new Object[]{"title", "contents", "Sunny", firstUserId + i % USERS,
+                        now, Timestamp.valueOf(LocalDateTime.now().minusMinutes(i))}));
+        long firstTodoId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM todos", Long.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)",
+                rows(TODOS, i -> new Object[]{firstUserId + i % USERS, firstTodoId + i}));
+        jdbcTemplate.batchUpdate("INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                rows(TODOS * COMMENTS_PER_TODO, i -> new Object[]{"contents", firstUserId + i % USERS,
+                        firstTodoId + i / COMMENTS_PER_TODO, now, now}));
+        jdbcTemplate.batchUpdate("INSERT INTO refresh_tokens (token_hash, family_id, user_id, expires_at, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows(USERS, i -> new Object[]{"hash-" + i, "family-" + i, firstUserId + i, expiresAt, now, now}));
+
+        // 선택도 통계를 갱신해야 H2 가 인덱스를 고른다
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static List<Object[]> rows(int count, IntFunction<Object[]> row) {
+        return IntStream.range(0, count).mapToObj(row).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.jdbc;
+
+import org.example.expert.jdbc.dto.SlowQueryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    SlowQueryLog slowQueryLog;
+    SqlStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        slowQueryLog = new SlowQueryLog();
+        ReflectionTestUtils.setField(slowQueryLog, "thresholdMillis", 0L);
+        dataSource = new SqlStatsDataSource(new DriverManagerDataSource("jdbc:h2:mem:slowquery;DB_CLOSE_DELAY=-1"), slowQueryLog);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255), password VARCHAR(255))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStats.end();
+        slowQueryLog.shutdown();
+    }
+
+    @Test
+    void 느린쿼리를endpoint와row수와함께남기고password는마스킹한다() throws Exception {
+        //given
+        RequestSqlStats.begin("POST /auth/signup");
+
+        //when
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email, password) VALUES (?, ?, ?)")) {
+                insert.setLong(1, 1L);
+                insert.setString(2, "a@a.com");
+                insert.setString(3, "secret-hash");
+                insert.executeUpdate();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT * FROM users WHERE email = ?")) {
+                select.setString(1, "a@a.com");
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong("id");
+                    }
+                }
+            }
+        }
+
+        //then
+        List<SlowQueryResponse> recent = awaitRecent(2);
+        SlowQueryResponse select = recent.get(0);
+        SlowQueryResponse insert = recent.get(1);
+        assertEquals("POST /auth/signup", insert.getEndpoint());
+        assertEquals(List.of("1", "a@a.com", SqlParameterMasker.MASK), insert.getParameters());
+        assertEquals(1, insert.getRows());
+        assertEquals(List.of("a@a.com"), select.getParameters());
+        assertEquals(1, select.getRows());
+    }
+
+    @Test
+    void row통계를끄더라도느린쿼리는row수와함께남긴다() throws Exception {
+        //given
+        SqlStatsDataSource executeOnly = new SqlStatsDataSource(new DriverManagerDataSource("jdbc:h2:mem:slowquery;DB_CLOSE_DELAY=-1"), slowQueryLog, false);
+        RequestSqlStats stats = RequestSqlStats.begin("GET /users");
+
+        //when
+        try (Connection connection = executeOnly.getConnection();
+             Statement insert = connection.createStatement()) {
+            insert.executeUpdate("INSERT INTO users (id, email, password) VALUES (1, 'a@a.com', 'hash')");
+            try (ResultSet resultSet = insert.executeQuery("SELECT * FROM users")) {
+                while (resultSet.next()) {
+                    resultSet.getLong("id");
+                }
+            }
+        }
+
+        //then
+        List<SlowQueryResponse> recent = awaitRecent(2);
+        assertEquals(1, recent.get(0).getRows());
+        assertEquals(2, stats.getStatements());
+        assertEquals(0, stats.getRows());
+    }
+
+    @Test
+    void threshold보다빠른쿼리는남기지않는다() throws Exception {
+        //given
+        ReflectionTestUtils.setField(slowQueryLog, "thresholdMillis", 60_000L);
+        RequestSqlStats.begin("GET /todos");
+
+        //when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement("SELECT * FROM users");
+             ResultSet resultSet = select.executeQuery()) {
+            resultSet.next();
+        }
+
+        //then
+        Thread.sleep(50);
+        assertTrue(slowQueryLog.recent(10).isEmpty());
+    }
+
+    // 기록은 별도 스레드에서 하므로 잠시 기다린다
+    private List<SlowQueryResponse> awaitRecent(int expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<SlowQueryResponse> recent = slowQueryLog.recent(10);
+            if (recent.size() >= expected) {
+                return recent;
+            }
+            Thread.sleep(20);
+        }
+        fail("느린 쿼리가 기록되지 않았다");
+        return List.of();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlParameterMaskerTest {
+
+    @Test
+    void insert의password컬럼위치를마스킹한다() {
+        //when
+        boolean[] masked = SqlParameterMasker.maskedParameters(
+                "insert into users (created_at,email,modified_at,password,user_role) values (?,?,?,?,?)", 5);
+
+        //then
+        assertArrayEquals(new boolean[]{false, false, false, true, false}, masked);
+    }
+
+    @Test
+    void update의password대입을마스킹한다() {
+        //when
+        boolean[] masked = SqlParameterMasker.maskedParameters(
+                "update users set email=?,modified_at=?,password=? where id=?", 4);
+
+        //then
+        assertArrayEquals(new boolean[]{false, false, true, false}, masked);
+    }
+
+    @Test
+    void 문자열리터럴안의물음표는세지않는다() {
+        //when
+        boolean[] masked = SqlParameterMasker.maskedParameters(
+                "select * from users where email = '?' and password = ?", 1);
+
+        //then
+        assertArrayEquals(new boolean[]{true}, masked);
+    }
+
+    @Test
+    void password가없으면마스킹하지않는다() {
+        assertArrayEquals(new boolean[]{false, false},
+                SqlParameterMasker.maskedParameters("select * from todos where id = ? and user_id = ?", 2));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatsDataSourceTest {
+
+    SqlStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new SqlStatsDataSource(new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1"));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS todos");
+            statement.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStats.end();
+    }
+
+    @Test
+    void 요청중에실행한statement수와row수를센다() throws SQLException {
+        //given
+        RequestSqlStats stats = RequestSqlStats.begin();
+
+        //when
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO todos (id, title) VALUES (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "title" + id);
+                    insert.executeUpdate();
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT * FROM todos");
+                 ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getString("title");
+                }
+            }
+        }
+
+        //then
+        assertEquals(4, stats.getStatements());
+        assertEquals(6, stats.getRows());
+        assertTrue(stats.getDbNanos() > 0);
+    }
+
+    @Test
+    void 요청밖에서만든statement는감싸지않는다() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement("SELECT * FROM todos")) {
+            assertFalse(java.lang.reflect.Proxy.isProxyClass(select.getClass()));
+        }
+    }
+
+    @Test
+    void JDBC프록시가없으면Hibernate가준비한statement수를센다() {
+        //given
+        RequestSqlStats stats = RequestSqlStats.begin();
+        SqlStatementInspector inspector = new SqlStatementInspector();
+
+        //when
+        inspector.inspect("select * from todos where id = ?");
+        inspector.inspect("select * from users where id = ?");
+
+        //then
+        assertEquals(2, stats.getStatements());
+        assertEquals(0, stats.getRows());
+    }
+
+    @Test
+    void IN절의바인딩개수가달라도같은모양으로본다() {
+        assertEquals(
+                RequestSqlStats.normalize("select * from users where id in (?, ?)"),
+                RequestSqlStats.normalize("select * from users where id in (?,?,?)")
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatsFilterTest {
+
+    FilterChain chain = (request, response) -> {
+        RequestSqlStats stats = RequestSqlStats.current();
+        for (int i = 0; i < 10; i++) {
+            stats.prepared("select * from users where id=?");
+            stats.executed(1_000);
+            stats.rows(1);
+        }
+    };
+
+    @Test
+    void 개발모드에서는SQL통계를응답헤더로내려준다() throws ServletException, IOException {
+        //given
+        SqlStatsFilter sqlStatsFilter = new SqlStatsFilter(5, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        sqlStatsFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, chain);
+
+        //then
+        assertEquals("10", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        assertEquals("10", response.getHeader(SqlStatsFilter.ROWS_HEADER));
+        assertEquals("10", response.getHeader(SqlStatsFilter.TIME_HEADER));
+        assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void 운영모드에서는응답헤더를추가하지않는다() throws ServletException, IOException {
+        //given
+        SqlStatsFilter sqlStatsFilter = new SqlStatsFilter(5, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        sqlStatsFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, chain);
+
+        //then
+        assertNull(response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.jfr.dto.JfrRecordingResponse;
+import org.example.expert.jfr.event.JwtVerificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingManagerTest {
+
+    @TempDir
+    Path dir;
+
+    JfrRecordingManager jfrRecordingManager;
+
+    @BeforeEach
+    void setUp() {
+        jfrRecordingManager = new JfrRecordingManager();
+        ReflectionTestUtils.setField(jfrRecordingManager, "dir", dir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordingManager.shutdown();
+    }
+
+    @Test
+    void 기록을중지하면애플리케이션이벤트가담긴파일을받을수있다() throws Exception {
+        //given
+        JfrRecordingResponse started = jfrRecordingManager.start("default", 60);
+
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        event.setEndpoint("GET /todos");
+        event.setUserRole("USER");
+        event.setValid(true);
+        event.commitIfEnabled();
+
+        //when
+        JfrRecordingResponse stopped = jfrRecordingManager.stop(started.getId());
+        Path file = jfrRecordingManager.getFile(started.getId());
+
+        //then
+        // JDK 는 중지된 기록을 파일로 쓰고 닫지만 (CLOSED), 파일을 받을 수 있으므로 STOPPED 로 보여준다
+        assertEquals("STOPPED", stopped.getState());
+        assertTrue(stopped.getSizeBytes() > 0);
+        assertEquals(started.getName(), stopped.getName());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("org.example.expert.JwtVerification"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("GET /todos", events.get(0).getString("endpoint"));
+        assertEquals("USER", events.get(0).getString("userRole"));
+    }
+
+    @Test
+    void 동시에두개의기록을시작할수없다() {
+        //given
+        jfrRecordingManager.start("default", 60);
+
+        //when & then
+        assertThrows(InvalidRequestException.class, () -> jfrRecordingManager.start("profile", 60));
+    }
+
+    @Test
+    void 지원하지않는설정은거절한다() {
+        assertThrows(InvalidRequestException.class, () -> jfrRecordingManager.start("unknown", 60));
+    }
+}
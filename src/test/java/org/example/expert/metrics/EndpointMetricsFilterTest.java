@@ -0,0 +1,92 @@
+package org.example.expert.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointMetricsFilterTest {
+
+    EndpointMetrics endpointMetrics;
+    EndpointMetricsFilter endpointMetricsFilter;
+
+    @BeforeEach
+    void setUp() {
+        endpointMetrics = new EndpointMetrics();
+        endpointMetricsFilter = new EndpointMetricsFilter(endpointMetrics);
+    }
+
+    @Test
+    void 요청은URI패턴기준으로집계한다() throws ServletException, IOException {
+        //given
+        FilterChain chain = (request, response) ->
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+
+        //when
+        endpointMetricsFilter.doFilter(new MockHttpServletRequest("GET", "/todos/1"), new MockHttpServletResponse(), chain);
+        endpointMetricsFilter.doFilter(new MockHttpServletRequest("GET", "/todos/2"), new MockHttpServletResponse(), chain);
+
+        //then
+        String metrics = writeMetrics();
+        assertTrue(metrics.contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/todos/{todoId}\"} 2\n"));
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{method=\"GET\",uri=\"/todos/{todoId}\",le=\"+Inf\"} 2\n"));
+        assertTrue(metrics.contains("http_server_requests_in_flight 0\n"));
+    }
+
+    @Test
+    void 에러응답과매핑되지않은요청을구분해서센다() throws ServletException, IOException {
+        //given
+        FilterChain chain = (request, response) -> ((MockHttpServletResponse) response).setStatus(401);
+
+        //when
+        endpointMetricsFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), chain);
+
+        //then
+        String metrics = writeMetrics();
+        assertTrue(metrics.contains("http_server_errors_total{method=\"GET\",uri=\"UNMATCHED\",status=\"4xx\"} 1\n"));
+        assertTrue(metrics.contains("http_server_errors_total{method=\"GET\",uri=\"UNMATCHED\",status=\"5xx\"} 0\n"));
+    }
+
+    @Test
+    void 표준이아닌메서드는OTHER로묶어서센다() throws ServletException, IOException {
+        //given
+        FilterChain chain = (request, response) -> ((MockHttpServletResponse) response).setStatus(405);
+
+        //when
+        endpointMetricsFilter.doFilter(new MockHttpServletRequest("FOO1", "/todos"), new MockHttpServletResponse(), chain);
+        endpointMetricsFilter.doFilter(new MockHttpServletRequest("FOO2", "/todos"), new MockHttpServletResponse(), chain);
+
+        //then
+        String metrics = writeMetrics();
+        assertTrue(metrics.contains("http_server_errors_total{method=\"OTHER\",uri=\"UNMATCHED\",status=\"4xx\"} 2\n"));
+        assertFalse(metrics.contains("FOO"));
+    }
+
+    @Test
+    void 예외가발생하면5xx로센다() {
+        //given
+        FilterChain chain = (request, response) -> {
+            throw new IllegalStateException();
+        };
+
+        //when
+        assertThrows(IllegalStateException.class, () ->
+                endpointMetricsFilter.doFilter(new MockHttpServletRequest("POST", "/todos"), new MockHttpServletResponse(), chain));
+
+        //then
+        assertTrue(writeMetrics().contains("http_server_errors_total{method=\"POST\",uri=\"UNMATCHED\",status=\"5xx\"} 1\n"));
+    }
+
+    private String writeMetrics() {
+        MetricsWriter writer = new MetricsWriter();
+        endpointMetrics.writeMetrics(writer);
+        return writer.toString();
+    }
+}
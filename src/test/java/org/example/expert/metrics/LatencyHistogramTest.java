@@ -0,0 +1,64 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 값은상한이자신이상인버킷에들어가고상대오차는12_5퍼센트이내다() {
+        for (long value = 1; value < LatencyHistogram.MAX_TRACKABLE; value = value * 3 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            long lower = index == 0 ? 0 : LatencyHistogram.bucketUpperBound(index - 1) + 1;
+
+            assertTrue(lower <= value && value <= upper, "value=" + value);
+            assertTrue(upper - lower <= Math.max(1, value / 8), "value=" + value);
+        }
+    }
+
+    @Test
+    void 버킷상한은증가한다() {
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertTrue(LatencyHistogram.bucketUpperBound(i) > LatencyHistogram.bucketUpperBound(i - 1));
+        }
+    }
+
+    @Test
+    void 기록한건수와합계를반환하고범위를넘는값은마지막버킷에넣는다() {
+        //given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        //when
+        latencyHistogram.record(1_000);
+        latencyHistogram.record(2_000);
+        latencyHistogram.record(Long.MAX_VALUE);
+
+        //then
+        long[] snapshot = latencyHistogram.snapshot();
+        assertEquals(3, Arrays.stream(snapshot).sum());
+        assertEquals(1, snapshot[LatencyHistogram.BUCKET_COUNT - 1]);
+        assertEquals(3_000 + LatencyHistogram.MAX_TRACKABLE, latencyHistogram.sumNanos());
+    }
+
+    @Test
+    void 백분위값은버킷상한으로반환한다() {
+        //given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            latencyHistogram.record(i * 1_000L);
+        }
+
+        //when
+        long p50 = latencyHistogram.valueAtPercentile(50);
+        long p99 = latencyHistogram.valueAtPercentile(99);
+
+        //then
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 1.125, "p50=" + p50);
+        assertTrue(p99 >= 99_000 && p99 <= 99_000 * 1.125, "p99=" + p99);
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+}
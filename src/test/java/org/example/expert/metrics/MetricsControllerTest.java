@@ -0,0 +1,41 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MetricsController.class)
+class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private MetricsSource metricsSource;
+
+    @Test
+    void getMetrics_등록된지표를Prometheus형식으로반환한다() throws Exception {
+        //given
+        doAnswer(invocation -> {
+            MetricsWriter writer = invocation.getArgument(0);
+            writer.counter("test_total", "테스트", 3);
+            return null;
+        }).when(metricsSource).writeMetrics(any(MetricsWriter.class));
+
+        //when
+        ResultActions result = mvc.perform(MockMvcRequestBuilders.get("/internal/metrics"));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(content().string("# HELP test_total 테스트\n# TYPE test_total counter\ntest_total 3\n"));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.support.AllocationProbe.Recording;
+import org.example.expert.support.AllocationProbe.Stage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+// 요청 하나가 요청 스레드에서 할당한 바이트를 재서 예산과 비교한다 (MockMvc 는 테스트 스레드에서 요청을 처리한다)
+// JIT 이 자리 잡도록 warmup 만큼 먼저 보내고, samples 번 잰 값 중 중간값을 사용한다
+// 비동기 API 는 asyncDispatch 까지 잰다, 작업 스레드의 할당은 잴 수 없으므로 DirectAsyncExecutors 를 함께 사용한다
+// AllocationProbe 로 단계별로 나눈다
+//   filters + mvc : 필터 (RequestFilter 버퍼링, JWT 검증 등), 요청 본문 파싱, MockMvc 자체의 할당
+//   controller    : 컨트롤러 메서드 자체
+//   service (DTO) : 서비스에서 repository 호출을 뺀 부분 (엔티티 -> DTO 복사)
+//   repository    : 쿼리 실행과 엔티티 hydration
+//   json          : 컨트롤러 반환값을 같은 ObjectMapper 로 다시 직렬화해서 잰 값
+public final class AllocationBudget {
+
+    private AllocationBudget() {
+    }
+
+    public static Report measure(MockMvc mvc, AllocationProbe probe, ObjectMapper objectMapper,
+                                 RequestBuilder request, int warmup, int samples) throws Exception {
+        assertTrue(AllocationProbe.isSupported(), "이 JVM 은 스레드별 할당량 측정을 지원하지 않습니다.");
+        for (int i = 0; i < warmup; i++) {
+            sample(mvc, probe, objectMapper, request);
+        }
+        List<Report> reports = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            reports.add(sample(mvc, probe, objectMapper, request));
+        }
+        reports.sort(Comparator.comparingLong(Report::total));
+        return reports.get(samples / 2);
+    }
+
+    private static Report sample(MockMvc mvc, AllocationProbe probe, ObjectMapper objectMapper,
+                                 RequestBuilder request) throws Exception {
+        probe.begin();
+        long start = AllocationProbe.allocatedBytes();
+        MvcResult result = mvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mvc.perform(asyncDispatch(result)).andReturn();
+        }
+        long total = AllocationProbe.allocatedBytes() - start;
+        Recording recording = probe.end();
+
+        int status = result.getResponse().getStatus();
+        if (status >= 300) {
+            fail(name(result) + " : 응답 상태가 " + status + " 입니다. " + result.getResponse().getContentAsString());
+        }
+
+        Object body = responseBody(recording.getControllerResult());
+        long jsonStart = AllocationProbe.allocatedBytes();
+        objectMapper.writeValueAsBytes(body);
+        long json = AllocationProbe.allocatedBytes() - jsonStart;
+
+        return new Report(name(result), total, recording.bytes(Stage.CONTROLLER), recording.bytes(Stage.SERVICE),
+                recording.bytes(Stage.REPOSITORY), json);
+    }
+
+    // VIA_DTO 설정이므로 Page 는 PagedModel 로 직렬화된다
+    private static Object responseBody(Object controllerResult) {
+        Object result = controllerResult instanceof CompletableFuture<?> future ? future.join() : controllerResult;
+        Object body = result instanceof HttpEntity<?> entity ? entity.getBody() : result;
+        return body instanceof Page<?> page ? new PagedModel<>(page) : body;
+    }
+
+    private static String name(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+
+    public record Report(String request, long total, long controller, long service, long repository, long json) {
+
+        public long filters() {
+            return Math.max(0, total - controller - json);
+        }
+
+        public void assertAtMost(long budgetBytes) {
+            if (total > budgetBytes) {
+                fail(this + "\n  예산 " + kb(budgetBytes) + " 을 넘었습니다.");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return request + " : 요청당 " + kb(total)
+                    + "\n  filters + mvc : " + kb(filters())
+                    + "\n  controller    : " + kb(controller - service)
+                    + "\n  service (DTO) : " + kb(service - repository)
+                    + "\n  repository    : " + kb(repository)
+                    + "\n  json          : " + kb(json);
+        }
+
+        private static String kb(long bytes) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+    }
+}
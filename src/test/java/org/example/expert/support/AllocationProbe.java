@@ -0,0 +1,98 @@
+package org.example.expert.support;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.lang.management.ManagementFactory;
+
+// 요청 스레드가 컨트롤러, 서비스, repository 안에서 할당한 바이트를 재는 테스트용 aspect (AllocationBudget 에서 사용)
+// 같은 단계가 중첩되면 (서비스 -> 서비스) 가장 바깥 호출만 잰다
+// TracingAspect 와 같은 pointcut 을 사용한다
+@Aspect
+public class AllocationProbe {
+
+    public enum Stage {
+        CONTROLLER, SERVICE, REPOSITORY
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ThreadLocal<Recording> recording = new ThreadLocal<>();
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN.isThreadAllocatedMemorySupported() && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    public static long allocatedBytes() {
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    public void begin() {
+        recording.set(new Recording());
+    }
+
+    public Recording end() {
+        Recording current = recording.get();
+        recording.remove();
+        return current;
+    }
+
+    @Around("execution(* org.example.expert.domain..controller.*.*(..))")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, Stage.CONTROLLER);
+    }
+
+    @Around("execution(* org.example.expert.domain..service.*.*(..))")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, Stage.SERVICE);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, Stage.REPOSITORY);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, Stage stage) throws Throwable {
+        Recording current = recording.get();
+        if (current == null || current.depth[stage.ordinal()]++ > 0) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                if (current != null) {
+                    current.depth[stage.ordinal()]--;
+                }
+            }
+        }
+
+        long start = allocatedBytes();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            current.bytes[stage.ordinal()] += allocatedBytes() - start;
+            current.depth[stage.ordinal()]--;
+            if (stage == Stage.CONTROLLER) {
+                current.controllerResult = result;
+            }
+        }
+    }
+
+    public static class Recording {
+
+        private final long[] bytes = new long[Stage.values().length];
+        private final int[] depth = new int[Stage.values().length];
+        private Object controllerResult;
+
+        // 단계 안에서 할당한 바이트 (안쪽 단계 포함)
+        public long bytes(Stage stage) {
+            return bytes[stage.ordinal()];
+        }
+
+        public Object getControllerResult() {
+            return controllerResult;
+        }
+    }
+}
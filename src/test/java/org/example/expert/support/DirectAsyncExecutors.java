@@ -0,0 +1,18 @@
+package org.example.expert.support;
+
+import org.example.expert.config.AsyncExecutors;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+// 비동기 API 의 작업을 요청 스레드에서 바로 실행한다 (@Import(DirectAsyncExecutors.class))
+// 요청 스레드 기준으로 재는 AllocationBudget 이 작업 스레드의 할당까지 포함하도록 한다
+@TestConfiguration
+public class DirectAsyncExecutors {
+
+    @Bean
+    @Primary
+    public AsyncExecutors directAsyncExecutors() {
+        return new AsyncExecutors(Runnable::run, Runnable::run, 10_000, 10_000);
+    }
+}
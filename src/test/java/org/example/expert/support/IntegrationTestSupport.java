@@ -0,0 +1,103 @@
+package org.example.expert.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// H2 위에 애플리케이션 전체를 띄우는 통합 테스트의 공통 부모 (application-test.yml)
+// 필터까지 모두 거치므로 QueryBudget 으로 요청당 SQL 수를 검사할 수 있다
+// 테스트끼리 데이터를 공유하므로 fixture 는 매번 새로 만들고 고유한 이메일을 쓴다
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    protected static final String PASSWORD = "Password1234";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Autowired
+    protected MockMvc mvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected JwtUtil jwtUtil;
+
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TodoRepository todoRepository;
+
+    @Autowired
+    protected CommentRepository commentRepository;
+
+    @Autowired
+    protected ManagerRepository managerRepository;
+
+    // 외부 API 는 호출하지 않는다
+    @MockBean
+    protected WeatherClient weatherClient;
+
+    protected User createUser(UserRole userRole) {
+        String email = "user" + SEQUENCE.incrementAndGet() + "@example.com";
+        return userRepository.save(new User(email, passwordEncoder.encode(PASSWORD), userRole));
+    }
+
+    protected Todo createTodo(User user) {
+        return todoRepository.save(new Todo("title", "contents", "Sunny", user));
+    }
+
+    protected Comment createComment(User user, Todo todo) {
+        return commentRepository.save(new Comment("contents", user, todo));
+    }
+
+    protected Manager createManager(User user, Todo todo) {
+        return managerRepository.save(new Manager(user, todo));
+    }
+
+    protected String bearerToken(User user) {
+        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    // CompletableFuture 를 반환하는 API (AsyncExecutors) 는 비동기 처리가 끝난 뒤의 응답을 검사한다
+    protected ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(result));
+    }
+
+    protected String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
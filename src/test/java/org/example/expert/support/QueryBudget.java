@@ -0,0 +1,37 @@
+package org.example.expert.support;
+
+import org.example.expert.jdbc.RequestSqlStats;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 요청 하나가 실행한 SQL statement 수를 검사하는 MockMvc ResultMatcher
+// mvc.perform(get("/todos")).andExpect(QueryBudget.atMost(2));
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher atMost(int budget) {
+        return result -> {
+            RequestSqlStats stats = (RequestSqlStats) result.getRequest().getAttribute(RequestSqlStats.ATTRIBUTE);
+            assertNotNull(stats, "SqlStatsFilter 가 적용되지 않았습니다.");
+            if (stats.getStatements() > budget) {
+                fail(message(result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(), budget, stats));
+            }
+        };
+    }
+
+    private static String message(String request, int budget, RequestSqlStats stats) {
+        StringBuilder message = new StringBuilder()
+                .append(request).append(" : SQL ").append(stats.getStatements())
+                .append("회 실행 (허용 ").append(budget).append("회)");
+        for (Map.Entry<String, Integer> shape : stats.getShapes().entrySet()) {
+            message.append("\n  ").append(shape.getValue()).append("회 | ").append(shape.getKey());
+        }
+        return message.toString();
+    }
+}
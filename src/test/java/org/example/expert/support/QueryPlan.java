@@ -0,0 +1,76 @@
+package org.example.expert.support;
+
+import org.example.expert.jdbc.RequestSqlStats;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Hibernate 가 만든 SQL 을 H2 EXPLAIN 으로 검사한다
+// List<String> sqls = QueryPlan.capture(() -> todoRepository.findByIdWithUser(1L));
+// QueryPlan.assertIndexed(dataSource, sql);
+public final class QueryPlan {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final String INDEX_SORTED = "index sorted";
+
+    private QueryPlan() {
+    }
+
+    // 실행하면서 Hibernate 가 준비한 SQL (SqlStatementInspector 가 RequestSqlStats 에 남긴 모양)
+    public static List<String> capture(Runnable queries) {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            queries.run();
+            return new ArrayList<>(stats.getShapes().keySet());
+        } finally {
+            RequestSqlStats.end();
+        }
+    }
+
+    // 전체 테이블을 읽거나 (tableScan) ORDER BY 를 인덱스 순서로 처리하지 못하면 (filesort) 실패한다
+    public static void assertIndexed(DataSource dataSource, String sql) {
+        String plan = explain(dataSource, sql);
+        if (plan.contains(TABLE_SCAN)) {
+            fail("전체 테이블을 읽습니다.\n  " + sql + "\n  " + plan);
+        }
+        if (sql.toLowerCase(Locale.ROOT).contains(" order by ") && !plan.contains(INDEX_SORTED)) {
+            fail("인덱스 순서로 정렬하지 못합니다.\n  " + sql + "\n  " + plan);
+        }
+    }
+
+    // 바인딩 값은 H2 가 추론한 파라미터 타입에 맞는 임의의 값이다 (실행 계획은 값과 상관없다)
+    public static String explain(DataSource dataSource, String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                switch (metaData.getParameterType(i)) {
+                    case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE, Types.DATE ->
+                            statement.setTimestamp(i, new Timestamp(System.currentTimeMillis()));
+                    case Types.BOOLEAN -> statement.setBoolean(i, false);
+                    default -> statement.setString(i, "1");
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString().replace('\n', ' ');
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN 에 실패했습니다. " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceStoreTest {
+
+    @Test
+    void 최근trace는용량만큼만최신순으로보관한다() {
+        //given
+        TraceStore traceStore = new TraceStore(4, 4);
+
+        //when
+        for (int i = 1; i <= 6; i++) {
+            traceStore.record(trace("/todos/" + i, 1_000_000));
+        }
+
+        //then
+        List<Trace> recent = traceStore.recent(10, 0);
+        assertEquals(4, recent.size());
+        assertEquals("/todos/6", recent.get(0).getUri());
+        assertEquals("/todos/3", recent.get(3).getUri());
+    }
+
+    @Test
+    void 상위1퍼센트의느린trace는최근버퍼가덮어써져도남는다() {
+        //given
+        TraceStore traceStore = new TraceStore(16, 4);
+        for (int i = 0; i < TraceStore.MIN_SAMPLES; i++) {
+            traceStore.record(trace("/todos", 1_000_000));
+        }
+
+        //when
+        traceStore.record(trace("/todos/slow", 500_000_000));
+        for (int i = 0; i < 50; i++) {
+            traceStore.record(trace("/todos", 1_000_000));
+        }
+
+        //then
+        assertTrue(traceStore.recent(100, 0).stream().noneMatch(trace -> trace.getUri().equals("/todos/slow")));
+        List<Trace> slowest = traceStore.slowest(10);
+        assertEquals("/todos/slow", slowest.get(0).getUri());
+        assertTrue(traceStore.find(slowest.get(0).getTraceId()).isPresent());
+    }
+
+    @Test
+    void 표본이모이기전에는느린trace로보지않는다() {
+        //given
+        TraceStore traceStore = new TraceStore(16, 4);
+
+        //when
+        traceStore.record(trace("/todos/slow", 500_000_000));
+
+        //then
+        assertTrue(traceStore.slowest(10).isEmpty());
+    }
+
+    private Trace trace(String uri, long durationNanos) {
+        Trace trace = new Trace(uri, "GET", uri, 16);
+        trace.finish(null, 200);
+        ReflectionTestUtils.setField(trace, "durationNanos", durationNanos);
+        return trace;
+    }
+}
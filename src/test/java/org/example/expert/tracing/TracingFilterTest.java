@@ -0,0 +1,87 @@
+package org.example.expert.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingFilterTest {
+
+    TraceStore traceStore;
+    TracingFilter tracingFilter;
+
+    @BeforeEach
+    void setUp() {
+        traceStore = new TraceStore(16, 4);
+        tracingFilter = new TracingFilter(traceStore, 3);
+    }
+
+    @Test
+    void 요청안에서연span을depth와함께기록한다() throws ServletException, IOException {
+        //given
+        FilterChain chain = (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+            Span controller = Tracer.start(SpanKind.CONTROLLER, "TodoController.getTodo");
+            Span service = Tracer.start(SpanKind.SERVICE, "TodoService.getTodo");
+            Tracer.end(service, null);
+            Tracer.end(controller, null);
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        tracingFilter.doFilter(new MockHttpServletRequest("GET", "/todos/1"), response, chain);
+
+        //then
+        Trace trace = traceStore.recent(1, 0).get(0);
+        assertEquals(trace.getTraceId(), response.getHeader(TracingFilter.TRACE_ID_HEADER));
+        assertEquals("/todos/{todoId}", trace.getPattern());
+        List<Span> spans = trace.getSpans();
+        assertEquals(List.of(SpanKind.FILTER, SpanKind.CONTROLLER, SpanKind.SERVICE), spans.stream().map(Span::getKind).toList());
+        assertEquals(List.of(0, 1, 2), spans.stream().map(Span::getDepth).toList());
+        assertTrue(spans.stream().allMatch(span -> span.getDurationNanos() >= 0));
+        assertFalse(Tracer.isActive());
+    }
+
+    @Test
+    void 최대span수를넘으면버린수만센다() throws ServletException, IOException {
+        //given
+        FilterChain chain = (request, response) -> {
+            for (int i = 0; i < 5; i++) {
+                Tracer.end(Tracer.start(SpanKind.REPOSITORY, "TodoRepository.findById"), null);
+            }
+        };
+
+        //when
+        tracingFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), chain);
+
+        //then
+        Trace trace = traceStore.recent(1, 0).get(0);
+        assertEquals(3, trace.getSpans().size());
+        assertEquals(3, trace.getDroppedSpans());
+    }
+
+    @Test
+    void 예외가발생하면span에예외를남기고500으로기록한다() {
+        //given
+        FilterChain chain = (request, response) -> {
+            throw new IllegalStateException();
+        };
+
+        //when
+        assertThrows(IllegalStateException.class, () ->
+                tracingFilter.doFilter(new MockHttpServletRequest("POST", "/todos"), new MockHttpServletResponse(), chain));
+
+        //then
+        Trace trace = traceStore.recent(1, 0).get(0);
+        assertEquals(500, trace.getStatus());
+        assertEquals("IllegalStateException", trace.getSpans().get(0).getError());
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.tracing;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TracingIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    TraceStore traceStore;
+
+    @Test
+    void 요청하나에컨트롤러서비스repository_span이남는다() throws Exception {
+        //given
+        User user = createUser(UserRole.USER);
+        Todo todo = createTodo(user);
+
+        //when
+        MvcResult result = mvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", bearerToken(user)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        String traceId = result.getResponse().getHeader(TracingFilter.TRACE_ID_HEADER);
+        Trace trace = traceStore.find(traceId).orElseThrow();
+        List<String> names = trace.getSpans().stream().map(Span::getName).toList();
+        assertEquals("/todos/{todoId}", trace.getPattern());
+        assertTrue(names.contains("TodoController.getTodo"), names.toString());
+        assertTrue(names.contains("TodoService.getTodo"), names.toString());
+        assertTrue(names.stream().anyMatch(name -> name.startsWith("TodoRepository.")), names.toString());
+    }
+
+    @Test
+    void getTraces_관리자는최근trace를조회할수있다() throws Exception {
+        //given
+        User admin = createUser(UserRole.ADMIN);
+        mvc.perform(get("/todos").header("Authorization", bearerToken(admin)))
+                .andExpect(status().isOk());
+
+        //when & then
+        mvc.perform(get("/internal/traces")
+                        .param("limit", "5")
+                        .header("Authorization", bearerToken(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spans[0].kind").value("FILTER"));
+    }
+}